@@ -4,18 +4,36 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import src.screens.LoadingScreen;
+import src.screens.ScreenRegistry;
 import src.screens.game.GameScreen;
 import src.screens.uiScreens.*;
 import src.screens.uiScreens.MenuScreen;
 import src.utils.Fonts;
+import src.utils.SdfAtlas;
+import src.utils.assets.AssetManifests;
+import src.utils.assets.AssetPack;
+import src.utils.assets.DecodedAtlas;
+import src.utils.assets.PackFileHandleResolver;
+import src.utils.assets.ParallelTextureLoader;
+import src.utils.assets.PrefetchingTmxMapLoader;
+import src.utils.log.AsyncLogAppender;
+import src.utils.log.Log;
 import src.utils.sound.SingleSoundManager;
 import src.utils.sound.SoundManager;
+import src.utils.startup.StartupGraph;
+import src.utils.startup.StartupProfiler;
 
-import java.util.ArrayList;
+import java.io.File;
+import java.io.IOException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -25,10 +43,22 @@ import java.util.concurrent.atomic.AtomicInteger;
  * la gestión de sonidos, la creación de pantallas y el manejo de la lógica de red (cliente/servidor).
  */
 public class Main extends Game {
+    private static final String TAG = "Main";
+    private static final String LOG_FILE = "logs/game.log";
+    private static final String SKIN_FILE = "ui/uiskin.json";
+    private static final String SKIN_ATLAS = "ui/uiskin.atlas";
+    private static final int STARTUP_BUDGET_MILLIS = 8; // Por frame, mientras aún no hay pantalla de carga.
+    private static final String ASSET_PACK = "assets.pak"; // Ruta por defecto, relativa al directorio de trabajo.
+
+    private FileHandleResolver resolver; // Del paquete de activos si existe; si no, los archivos internos.
     private AssetManager assetManager;
-    private ArrayList<Screen> screensList;
+    private AssetManifests assetManifests; // Activos por pantalla, con contador de referencias.
+    private ParallelTextureLoader textureLoader; // Decodifica las imágenes en paralelo para el AssetManager.
+    private ScreenRegistry screens; // Pantallas, construidas al usarse por primera vez.
     private Skin skin;
     private AtomicInteger ids;
+    private SpriteBatch batch; // Único Batch del juego: lo comparten todos los Stage y renderizadores.
+    private StartupGraph startup; // Tareas de inicialización; null cuando han terminado.
 
 
     /**
@@ -61,88 +91,130 @@ public class Main extends Game {
 
     /**
      * Método `create` se llama una vez al inicio de la aplicación.
-     * Inicializa todos los componentes esenciales del juego: Skin, activos,
-     * gestores de sonido, fuentes, pantallas y establece la pantalla inicial.
+     * Inicia el registro y el Batch, y lanza el resto de la inicialización (Skin, activos, sonidos, pantallas y
+     * fuentes) como tareas de un `StartupGraph`: la lectura de archivos y la rasterización corren en paralelo en
+     * otros hilos, y lo que necesita OpenGL se termina en este. En cuanto el Skin y el `AssetManager` están
+     * listos se muestra `LoadingScreen`, que espera al resto.
      */
     @Override
     public void create() {
-        skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
+        StartupProfiler.end(StartupProfiler.APPLICATION);
+        StartupProfiler.begin("create");
+        initLog();
+        resolver = openAssetPack();
+        batch = new SpriteBatch();
         playerColor = new Color(Color.WHITE);
         ids = new AtomicInteger(0);
+        startup = createStartup();
+        startup.start();
+        StartupProfiler.end("create");
+    }
 
-        // ¡IMPORTANTE! Cargar activos ANTES de inicializar pantallas que los usan.
-        initAssets();
+    /**
+     * Declara las tareas de inicialización y sus dependencias. Las que no usan OpenGL ni el estado del juego
+     * (leer el atlas del Skin, generar o leer los atlas de fuentes) van en segundo plano; el resto, en el hilo
+     * de render. Los activos de las pantallas (texturas, mapas) los decodifica el `AssetManager` en su propio
+     * hilo.
+     */
+    private StartupGraph createStartup() {
+        StartupGraph graph = new StartupGraph(Runtime.getRuntime().availableProcessors() - 1);
+        StartupGraph.Task<DecodedAtlas> skinTask = graph.background("skin", () -> DecodedAtlas.read(resolver.resolve(SKIN_ATLAS)), this::createSkin);
+        StartupGraph.Task<Void> assets = graph.main("assets", this::initAssets);
+        // `LoadingScreen` usa el AssetManager desde su constructor: no se crea hasta que existe.
+        graph.main("loading", () -> setScreen(new LoadingScreen(this, skin, startup, this::onAssetsLoaded)), skinTask, assets);
+        graph.main("sounds", this::initSounds);
+        graph.main("screens", () -> {
+            initScreens();
+            // Solo se encolan los activos del menú: los carga `LoadingScreen` poco a poco, dibujando el progreso.
+            screens.preload(Screens.MENU);
+        }, assets);
+        StartupGraph.Task<SdfAtlas.Data> bricolage = graph.background("fonts:bricolage", () -> Fonts.prepare(resolver, Fonts.BRICOLAGE), null);
+        StartupGraph.Task<SdfAtlas.Data> inter = graph.background("fonts:inter", () -> Fonts.prepare(resolver, Fonts.INTER), null);
+        graph.main("fonts", () -> fonts = new Fonts(bricolage.getResult(), inter.getResult()), bricolage, inter);
+        return graph;
+    }
 
-        soundManager = SingleSoundManager.getInstance();
-        soundManager.setVolumeMusic(0.1f);
-        initSounds();
-        fonts = new Fonts();
-        initScreens(); // Ahora creará pantallas que ya tienen sus assets cargados
+    /**
+     * Crea el Skin con su atlas ya decodificado. `LoadingScreen` se muestra en la tarea "loading", cuando
+     * están listos el Skin y el `AssetManager`.
+     */
+    private void createSkin(DecodedAtlas atlas) {
+        skin = new Skin(atlas.create());
+        skin.load(resolver.resolve(SKIN_FILE));
+    }
 
-        // Cambia a la pantalla del menú. Si quieres una intro, asegúrate de tenerla en initScreens.
+    /**
+     * Se llama cuando `LoadingScreen` termina: las tareas de arranque y los activos del menú están listos.
+     * Muestra el menú.
+     */
+    private void onAssetsLoaded() {
+        Screen loadingScreen = getScreen();
+        startup.dispose();
+        startup = null;
+        StartupProfiler.begin("menu");
         changeScreen(Screens.MENU);
-        setScreen(screensList.get(Screens.MENU.ordinal()));
+        loadingScreen.dispose();
     }
 
     /**
-     * Carga todos los recursos (texturas, etc.) del juego utilizando `AssetManager`.
-     * Este método bloquea hasta que todos los assets han sido cargados (`finishLoading()`).
+     * Inicia el registro del juego (`Log`). Los mensajes se escriben en "logs/game.log" desde un hilo propio.
+     * El nivel se elige con la propiedad de sistema "log.level" (INFO por defecto) y la copia en consola con
+     * "log.console" (desactivada por defecto; la tarea `run` de Gradle la activa para desarrollo).
+     */
+    private void initLog() {
+        Log.Level level;
+        try {
+            level = Log.Level.valueOf(System.getProperty("log.level", "INFO").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            level = Log.Level.INFO;
+        }
+        try {
+            Log.init(new AsyncLogAppender(Gdx.files.local(LOG_FILE).file(), Boolean.getBoolean("log.console")), level);
+        } catch (IOException e) {
+            // Sin archivo de log el juego sigue funcionando; los avisos y errores van a la salida de error.
+            Log.setLevel(level);
+            Log.warn(TAG, "No se pudo abrir el archivo de log: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Abre el paquete de activos que genera la tarea `packAssets` de Gradle, si existe. La ruta se elige con la
+     * propiedad de sistema "assets.pack" ("assets.pak" en el directorio de trabajo por defecto; la tarea `run`
+     * usa la de build/). Sin paquete, o si no se puede leer, los activos se leen archivo a archivo como siempre.
+     */
+    private FileHandleResolver openAssetPack() {
+        File file = new File(System.getProperty("assets.pack", ASSET_PACK));
+        if (!file.isFile()) {
+            Log.info(TAG, "Sin paquete de activos en {}: se leen los archivos sueltos", file.getPath());
+            return new InternalFileHandleResolver();
+        }
+        try {
+            AssetPack pack = AssetPack.open(file);
+            Log.info(TAG, "Paquete de activos {} con {} archivos", file.getPath(), Integer.valueOf(pack.size()));
+            return new PackFileHandleResolver(pack);
+        } catch (IOException e) {
+            Log.warn(TAG, "No se pudo abrir el paquete de activos: {}", e.getMessage());
+            return new InternalFileHandleResolver();
+        }
+    }
+
+    /**
+     * Crea el `AssetManager` y los manifiestos de activos. No carga nada: cada pantalla adquiere su manifiesto
+     * al construirse (ver `ScreenRegistry`) y la carga la avanzan `LoadingScreen` o la precarga en segundo plano.
      */
     private void initAssets(){
-        assetManager = new AssetManager();
-
-        // Carga de texturas y sonidos necesarios para el menú y UIScreen base
-        assetManager.load("ui/bg/incono.png", Texture.class);
-        assetManager.load("ui/bg/image3.jpg", Texture.class);
-        assetManager.load("ui/bg/image2.jpg", Texture.class);
-        assetManager.load("ui/bg/images.jpg", Texture.class);
-        assetManager.load("ui/bg/sonic-frontiers.jpg", Texture.class);
-        assetManager.load("ui/bg/sonicFondo.jpg", Texture.class); // Fondo del menú
-        assetManager.load("logo.png", Texture.class);         // Logo del juego
-        assetManager.load("ui/buttons/info.png", Texture.class);
-        assetManager.load("ui/buttons/infoHover.png", Texture.class);
-        assetManager.load("ui/buttons/exit.png", Texture.class);
-        assetManager.load("ui/buttons/exitHover.png", Texture.class);
-        assetManager.load("ui/buttons/boton.png", Texture.class);
-        assetManager.load("ui/buttons/botonHover.png", Texture.class);
-        assetManager.load("ui/buttons/input.png", Texture.class);
-        assetManager.load("ui/bg/img.png", Texture.class);
-        assetManager.load("ui/uiskin.json", Skin.class);
-        assetManager.load("yoshi.jpg", Texture.class);
-        assetManager.load("world/entities/Objetos/monton.png", Texture.class);
-        assetManager.load("world/entities/Objetos/anillos.png", Texture.class);
-        assetManager.load("world/entities/Objetos/anillo_especial.png", Texture.class);
-        assetManager.load("world/entities/Sonic/Sonic_Inactivo.png", Texture.class);
-        assetManager.load("world/entities/Sonic/Sonic_correr1.png", Texture.class);
-        assetManager.load("world/entities/Sonic/Sonic_correr2.png", Texture.class);
-        //assetManager.load("tiled/maps/tiledSets/Cave.png", Texture.class);
-        assetManager.load("tiled/maps/tiledSets/greenhillprestado.png", Texture.class);
-        //assetManager.load("tiled/maps/tiledSets/GreenHill.png", Texture.class);
-        //assetManager.load("tiled/maps/tiledSets/otros.png", Texture.class);
-        assetManager.load("world/entities/Sonic/Sonic_correr3.png", Texture.class);
-        assetManager.load("world/entities/Enemigos/enemigo1.png", Texture.class);
-        assetManager.load("world/entities/Sonic/Sonic_idle.png", Texture.class);
-        assetManager.load("world/entities/Sonic/Sonic_bolita.png", Texture.class);
-        assetManager.load("world/entities/Sonic/Sonic_cayendo.png", Texture.class);
-        assetManager.load("world/entities/Enemigos/enemigo3.png", Texture.class);
-        assetManager.load("world/entities/Objetos/basura2.png", Texture.class);
-        assetManager.load("tiled/maps/tiledSets/16x16Tiles.png", Texture.class);
-        assetManager.load("tiled/maps/tiledSets/FONDO.jpeg", Texture.class);
-        assetManager.load("tiled/maps/tiledSets/FONDO CUEVA.jpeg", Texture.class);
-        assetManager.load("tiled/maps/tiledSets/mapa sanic.jpg", Texture.class);
-        assetManager.load("world/entities/Enemigos/eggman/eggman_idle.png", Texture.class);
-        assetManager.load("world/entities/Enemigos/eggman/eggman_molesto.png", Texture.class);
-        assetManager.load("world/entities/Enemigos/eggman/eggman_perdiendo.png", Texture.class);
-        assetManager.load("world/entities/Enemigos/eggman/eggman_morado.png", Texture.class);
-        assetManager.load("world/entities/Objetos/explosion.png", Texture.class);
-
-
-
-
-
-        System.out.println("Cargando activos...");
-        assetManager.finishLoading(); // Espera a que todos los activos se carguen
-        System.out.println("Activos cargados.");
+        // Todos los cargadores leen a través del mismo resolver (el del paquete, si lo hay).
+        assetManager = new AssetManager(resolver);
+        // Las imágenes se decodifican en un hilo por núcleo; la subida a la GPU sigue en `AssetManager.update`.
+        int cores = Runtime.getRuntime().availableProcessors();
+        textureLoader = new ParallelTextureLoader(resolver, cores, cores * 2);
+        assetManager.setLoader(Texture.class, textureLoader);
+        // Los mapas de los segmentos de nivel se cargan de forma asíncrona a través del AssetManager (ver LevelStreamer).
+        // Sus tilesets se decodifican en paralelo nada más leer el mapa.
+        assetManager.setLoader(TiledMap.class, new PrefetchingTmxMapLoader(resolver, assetManager, textureLoader));
+
+        // Los activos de cada pantalla se declaran en su manifiesto ("assets/manifests") y se cargan con ella.
+        assetManifests = new AssetManifests(assetManager);
     }
 
     /**
@@ -150,23 +222,31 @@ public class Main extends Game {
      * Utiliza el `SoundManager` para gestionar la reproducción de música de fondo.
      */
     private void initSounds(){
+        soundManager = SingleSoundManager.getInstance();
+        soundManager.setVolumeMusic(0.1f);
         soundManager.addSoundTrack(SoundTrackType.MENU);
         soundManager.addSoundTrack(SoundTrackType.GAME);
         // Aquí podrías cargar y añadir tus archivos de música
     }
 
     /**
-     * Inicializa todas las instancias de las pantallas del juego y las añade a la `screensList`.
-     * Las pantallas se crean una vez y se reutilizan para evitar sobrecarga.
+     * Registra las pantallas del juego con el manifiesto de sus activos. No se construye ninguna:
+     * `ScreenRegistry` crea cada una la primera vez que se muestra y la reutiliza después. La política de memoria
+     * se elige con "screens.policy" (LEAST_RECENTLY_USED por defecto, o KEEP_ALL) y "screens.maxResident"
+     * (2 por defecto: la pantalla actual y la anterior o la precargada).
      */
     private void initScreens(){
-        screensList  = new ArrayList<>();
-        // Asegúrate de que las pantallas se añaden en el mismo orden que en el enum Screens.
-        screensList.add(new MenuScreen(this));
-        screensList.add(new InfoScreen(this));
-        screensList.add(new OptionScreen(this));
-        screensList.add(new GameScreen(this));
-
+        ScreenRegistry.MemoryPolicy policy;
+        try {
+            policy = ScreenRegistry.MemoryPolicy.valueOf(System.getProperty("screens.policy", "LEAST_RECENTLY_USED").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            policy = ScreenRegistry.MemoryPolicy.LEAST_RECENTLY_USED;
+        }
+        screens = new ScreenRegistry(this, assetManifests, policy, Integer.getInteger("screens.maxResident", 2));
+        screens.register(Screens.MENU, "manifests/menu.json", () -> new MenuScreen(this));
+        screens.register(Screens.INFO, "manifests/blue_circle.json", () -> new InfoScreen(this));
+        screens.register(Screens.OPTION, "manifests/blue_circle.json", () -> new OptionScreen(this));
+        screens.register(Screens.GAME, "manifests/game.json", () -> new GameScreen(this));
     }
 
     /**
@@ -194,6 +274,17 @@ public class Main extends Game {
         return assetManager;
     }
 
+    /**
+     * Obtiene el Batch compartido. Todos los `Stage` y renderizadores del juego dibujan con él (un solo juego
+     * de buffers de vértices y un solo shader por defecto), así que quien lo use debe dejarlo como lo encontró:
+     * cerrar su `begin` con `end` y volver al shader por defecto (`setShader(null)`) si lo cambió.
+     * Lo libera `Main`; los `Stage` creados con él no lo liberan.
+     * @return La instancia de SpriteBatch.
+     */
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
     /**
      * Obtiene el Skin de la UI del juego.
      * @return La instancia de Skin.
@@ -204,10 +295,15 @@ public class Main extends Game {
 
     /**
      * Cambia la pantalla actual del juego a la pantalla especificada por la enumeración `Screens`.
+     * Desde el menú, la pantalla de juego (la más pesada y la siguiente más probable) se precarga en segundo
+     * plano, salvo con -Dscreens.prewarm=false.
      * @param screen La pantalla a la que se desea cambiar.
      */
     public void changeScreen(Screens screen){
-        setScreen(screensList.get(screen.ordinal()));
+        screens.show(screen);
+        if (screen == Screens.MENU && Boolean.parseBoolean(System.getProperty("screens.prewarm", "true"))) {
+            screens.prewarm(Screens.GAME);
+        }
     }
 
     public void setIds(int ids) {
@@ -221,13 +317,38 @@ public class Main extends Game {
     @Override
     public void render() {
         try{
+            // Hasta que el Skin esté listo no hay pantalla de carga que avance las tareas de arranque.
+            if (startup != null && getScreen() == null) startup.update(STARTUP_BUDGET_MILLIS);
+            if (screens != null) screens.update(); // Precarga de pantallas en segundo plano.
+            // Sin tareas de arranque, la pantalla actual es ya el menú: este frame cierra la medición del arranque.
+            boolean firstMenuFrame = startup == null && !StartupProfiler.isFinished();
             super.render();
+            if (firstMenuFrame) {
+                StartupProfiler.end("menu");
+                StartupProfiler.finish();
+            }
+            if (isTrainingDone()) {
+                Log.info(TAG, "Arranque de entrenamiento terminado: se cierra el juego");
+                Gdx.app.exit();
+            }
         }catch (GdxRuntimeException e){
-            System.out.println(e.getMessage());
+            Log.error(TAG, "Error en el render", e);
             dispose();
         }
     }
 
+    /**
+     * Con -Dstartup.training=true (la tarea `trainCds` de Gradle) el juego arranca, llega al menú y se cierra,
+     * para que la JVM guarde en un archivo CDS las clases cargadas por el camino. Espera también a que se
+     * precargue la pantalla de juego, que se construye justo después, salvo con -Dscreens.prewarm=false.
+     * -Dstartup.benchmark=true hace lo mismo para medir arranques (la tarea `startupComparison`).
+     */
+    private boolean isTrainingDone() {
+        if (!StartupProfiler.isFinished()) return false;
+        if (!Boolean.getBoolean("startup.training") && !Boolean.getBoolean("startup.benchmark")) return false;
+        return !Boolean.parseBoolean(System.getProperty("screens.prewarm", "true")) || screens.isBuilt(Screens.GAME);
+    }
+
     /**
      * Método `dispose` se llama cuando la aplicación está a punto de cerrarse.
      * Es crucial para liberar todos los recursos cargados y evitar fugas de memoria.
@@ -235,12 +356,15 @@ public class Main extends Game {
      */
     @Override
     public void dispose() {
-        assetManager.dispose();
-        skin.dispose();
-        for (Screen screen : screensList) {
-            screen.dispose();
-        }
-        soundManager.dispose();
-        fonts.dispose();
+        // Si se cierra durante el arranque, parte de lo que sigue aún no existe.
+        if (startup != null) startup.dispose();
+        if (assetManager != null) assetManager.dispose();
+        if (textureLoader != null) textureLoader.dispose();
+        if (skin != null) skin.dispose();
+        if (screens != null) screens.dispose();
+        batch.dispose(); // Después de las pantallas, que lo usan en sus Stage.
+        if (soundManager != null) soundManager.dispose();
+        if (fonts != null) fonts.dispose();
+        Log.shutdown();
     }
 }
@@ -0,0 +1,124 @@
+package src.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Align;
+import src.main.Main;
+import src.utils.constants.MyColors;
+import src.utils.log.Log;
+import src.utils.startup.StartupGraph;
+
+/**
+ * La clase `LoadingScreen` es la primera pantalla del juego. Mientras el `AssetManager` carga los activos
+ * pendientes, dibuja una barra de progreso animada; cada frame solo dedica `LOAD_BUDGET_MILLIS` a la carga
+ * (`assetManager.update`), así que la ventana responde y se dibuja desde el primer frame.
+ * <p>
+ * Solo usa el Skin básico (su región "white" y su fuente por defecto), que se carga antes que nada, y el
+ * Batch compartido. Al arrancar el juego también avanza el `StartupGraph` (las tareas de inicialización que
+ * quedan, como las fuentes) y espera a que termine. Cuando la carga termina ejecuta `onLoaded`, que construye
+ * las pantallas que dependen de los activos y cambia a la siguiente.
+ */
+public class LoadingScreen extends BaseScreen {
+    private static final String TAG = "LoadingScreen";
+    private static final int LOAD_BUDGET_MILLIS = 12; // Deja el resto del frame (a 60 FPS) para dibujar.
+    private static final int STARTUP_BUDGET_MILLIS = 4; // Para las partes de las tareas de arranque que van en este hilo.
+    private static final float BAR_WIDTH = 0.5f; // Fracción del ancho de la ventana.
+    private static final float BAR_HEIGHT = 12f;
+    private static final float SMOOTHING = 8f; // Velocidad con la que la barra alcanza el progreso real.
+
+    private final AssetManager assetManager;
+    private final StartupGraph startup;
+    private final Runnable onLoaded;
+    private final TextureRegion white;
+    private final BitmapFont font;
+    private final Matrix4 projection;
+    private final long startTime;
+    private float shownProgress; // Progreso dibujado; sigue al real suavemente.
+    private float time;
+    private Boolean finished;
+
+    /**
+     * Constructor de `LoadingScreen`.
+     * @param main La instancia principal del juego.
+     * @param skin El Skin básico, ya cargado.
+     * @param startup Tareas de arranque que hay que completar además de la carga (null si no hay).
+     * @param onLoaded Qué hacer cuando todos los activos estén cargados (se llama una sola vez, en el hilo de render).
+     */
+    public LoadingScreen(Main main, Skin skin, StartupGraph startup, Runnable onLoaded) {
+        super(main);
+        this.assetManager = main.getAssetManager();
+        this.startup = startup;
+        this.onLoaded = onLoaded;
+        white = skin.getRegion("white");
+        font = skin.getFont("default");
+        projection = new Matrix4();
+        startTime = System.nanoTime();
+        finished = false;
+    }
+
+    @Override
+    public void show() {
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    @Override
+    public void render(float delta) {
+        if (finished) return;
+        // Primero las tareas de arranque, que pueden encolar más activos.
+        boolean done = startup == null || startup.update(STARTUP_BUDGET_MILLIS);
+        done = assetManager.update(LOAD_BUDGET_MILLIS) && done;
+        time += delta;
+        float progress = startup == null ? assetManager.getProgress() : (assetManager.getProgress() + startup.getProgress()) / 2;
+        shownProgress = MathUtils.lerp(shownProgress, progress, Math.min(1f, delta * SMOOTHING));
+        draw();
+        if (!done) return;
+
+        finished = true;
+        Log.info(TAG, "Activos cargados en {} ms", (System.nanoTime() - startTime) / 1_000_000L);
+        onLoaded.run();
+    }
+
+    /**
+     * Dibuja la barra (con un brillo que la recorre, para que se vea que el juego no está congelado) y el texto.
+     */
+    private void draw() {
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float screenWidth = Gdx.graphics.getWidth();
+        float screenHeight = Gdx.graphics.getHeight();
+        float barWidth = screenWidth * BAR_WIDTH;
+        float barX = (screenWidth - barWidth) / 2;
+        float barY = screenHeight / 2 - BAR_HEIGHT / 2;
+        float fill = barWidth * shownProgress;
+        float shine = Interpolation.sine.apply((time * 0.8f) % 1f) * fill;
+
+        SpriteBatch batch = main.getBatch();
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        batch.setColor(MyColors.BLUE.r, MyColors.BLUE.g, MyColors.BLUE.b, 0.35f);
+        batch.draw(white, barX, barY, barWidth, BAR_HEIGHT);
+        batch.setColor(MyColors.YELLOW);
+        batch.draw(white, barX, barY, fill, BAR_HEIGHT);
+        batch.setColor(1f, 1f, 1f, 0.6f);
+        batch.draw(white, barX + Math.max(0f, shine - BAR_HEIGHT), barY, Math.min(BAR_HEIGHT, fill), BAR_HEIGHT);
+        batch.setColor(1f, 1f, 1f, 1f);
+        int dots = (int) (time * 3f) % 4;
+        font.draw(batch, "Cargando" + ".".repeat(dots) + "  " + (int) (shownProgress * 100) + "%",
+            0, barY - BAR_HEIGHT, screenWidth, Align.center, false);
+        batch.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        projection.setToOrtho2D(0, 0, width, height);
+    }
+}
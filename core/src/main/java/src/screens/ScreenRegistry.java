@@ -0,0 +1,227 @@
+package src.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import src.main.Main;
+import src.utils.assets.AssetManifests;
+import src.utils.log.Log;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.function.Supplier;
+
+/**
+ * La clase `ScreenRegistry` crea las pantallas del juego la primera vez que se usan y las reutiliza después,
+ * en lugar de construirlas todas al arrancar (o crear una nueva cada vez que se vuelve al menú).
+ * <p>
+ * Cada pantalla se registra con una fábrica y el manifiesto de sus activos (ver `AssetManifests`). Los activos
+ * de una pantalla se adquieren antes de construirla y se liberan al liberarla, así que en memoria solo quedan
+ * los de las pantallas construidas. `show` construye la pantalla si hace falta y la activa; si sus activos no
+ * están cargados, muestra antes un `LoadingScreen`. `prewarm` carga sus activos en segundo plano (el
+ * `AssetManager` avanza en `update`, unos milisegundos por frame) y la construye en cuanto están, para que el
+ * cambio posterior sea inmediato. La construcción siempre se hace en el hilo de render, porque las pantallas
+ * crean texturas y Stages.
+ * <p>
+ * Con la política `LEAST_RECENTLY_USED` se conservan como máximo `maxResident` pantallas construidas: al
+ * superarse, se libera la que lleva más tiempo sin usarse (nunca la actual). La liberación se hace al principio
+ * del frame siguiente, porque el cambio de pantalla puede pedirse desde dentro del `render` de la pantalla que
+ * se va a liberar (p. ej. al morir el jugador durante el paso de físicas).
+ */
+public class ScreenRegistry implements Disposable {
+    private static final String TAG = "ScreenRegistry";
+    private static final int PREWARM_BUDGET_MILLIS = 4; // Tiempo por frame dedicado a cargar en segundo plano.
+
+    /**
+     * Qué hacer con las pantallas que no se están mostrando.
+     */
+    public enum MemoryPolicy {
+        KEEP_ALL, // Se conservan todas hasta cerrar el juego.
+        LEAST_RECENTLY_USED, // Se conservan como máximo `maxResident`.
+    }
+
+    private final Main main;
+    private final AssetManifests manifests;
+    private final EnumMap<Main.Screens, Supplier<Screen>> factories;
+    private final EnumMap<Main.Screens, String> manifestPaths;
+    private final EnumMap<Main.Screens, Screen> built;
+    private final EnumSet<Main.Screens> acquired; // Pantallas con su manifiesto adquirido.
+    private final EnumSet<Main.Screens> prewarming; // Pantallas que se construirán en cuanto carguen sus activos.
+    private final Array<Main.Screens> recent; // Pantallas construidas, de la usada más recientemente a la que menos.
+    private final MemoryPolicy policy;
+    private final Integer maxResident;
+    private Main.Screens current;
+    private Boolean trimPending;
+
+    /**
+     * Constructor de `ScreenRegistry`.
+     * @param main El juego cuyas pantallas se gestionan.
+     * @param manifests Los manifiestos de activos del juego.
+     * @param policy Política de memoria.
+     * @param maxResident Máximo de pantallas construidas con `LEAST_RECENTLY_USED` (al menos 1).
+     */
+    public ScreenRegistry(Main main, AssetManifests manifests, MemoryPolicy policy, Integer maxResident) {
+        this.main = main;
+        this.manifests = manifests;
+        this.policy = policy;
+        this.maxResident = Math.max(1, maxResident);
+        factories = new EnumMap<>(Main.Screens.class);
+        manifestPaths = new EnumMap<>(Main.Screens.class);
+        built = new EnumMap<>(Main.Screens.class);
+        acquired = EnumSet.noneOf(Main.Screens.class);
+        prewarming = EnumSet.noneOf(Main.Screens.class);
+        recent = new Array<>();
+        trimPending = false;
+    }
+
+    /**
+     * Registra una pantalla. No la construye ni carga sus activos.
+     * @param type La pantalla.
+     * @param manifestPath Manifiesto con los activos que necesita la pantalla para construirse.
+     * @param factory Crea la pantalla.
+     */
+    public void register(Main.Screens type, String manifestPath, Supplier<Screen> factory) {
+        factories.put(type, factory);
+        manifestPaths.put(type, manifestPath);
+    }
+
+    /**
+     * Encola la carga de los activos de una pantalla sin construirla.
+     */
+    public void preload(Main.Screens type) {
+        if (acquired.add(type)) manifests.acquire(manifestPaths.get(type));
+    }
+
+    /**
+     * Indica si los activos de una pantalla están cargados.
+     */
+    public boolean isReady(Main.Screens type) {
+        return acquired.contains(type) && manifests.isLoaded(manifestPaths.get(type));
+    }
+
+    /**
+     * Activa una pantalla, construyéndola si no existe. Si sus activos aún no están cargados, muestra un
+     * `LoadingScreen` hasta que lo estén.
+     * @param type La pantalla a mostrar.
+     */
+    public void show(Main.Screens type) {
+        prewarming.remove(type);
+        if (built.containsKey(type) || isReady(type)) {
+            activate(type);
+            return;
+        }
+        preload(type);
+        Screen loading = new LoadingScreen(main, main.getSkin(), null, () -> {
+            Screen loadingScreen = main.getScreen();
+            activate(type);
+            loadingScreen.dispose();
+        });
+        main.setScreen(loading);
+    }
+
+    private void activate(Main.Screens type) {
+        Screen screen = get(type);
+        current = type;
+        recent.removeValue(type, true);
+        recent.insert(0, type);
+        main.setScreen(screen);
+        scheduleTrim();
+    }
+
+    /**
+     * Devuelve una pantalla, construyéndola si no existe (sin activarla). Sus activos deben estar cargados.
+     * @param type La pantalla.
+     * @return La instancia de la pantalla.
+     */
+    public Screen get(Main.Screens type) {
+        Screen screen = built.get(type);
+        if (screen != null) return screen;
+        Supplier<Screen> factory = factories.get(type);
+        if (factory == null) throw new IllegalArgumentException("Pantalla sin registrar: " + type);
+
+        long start = System.nanoTime();
+        preload(type);
+        screen = factory.get();
+        built.put(type, screen);
+        recent.add(type);
+        Log.info(TAG, "Pantalla {} construida en {} ms", type, (System.nanoTime() - start) / 1_000_000L);
+        return screen;
+    }
+
+    /**
+     * Carga en segundo plano los activos de una pantalla y la construye cuando estén, si aún no existe.
+     * Queda como la segunda más reciente, así que la política de memoria no la libera enseguida.
+     * @param type La pantalla que probablemente se muestre a continuación.
+     */
+    public void prewarm(Main.Screens type) {
+        if (built.containsKey(type)) return;
+        preload(type);
+        prewarming.add(type);
+    }
+
+    /**
+     * Avanza la carga en segundo plano y construye las pantallas precargadas que ya tienen sus activos.
+     * Se llama en cada frame desde `Main.render`, antes de dibujar la pantalla actual.
+     */
+    public void update() {
+        if (prewarming.isEmpty()) return;
+        main.getAssetManager().update(PREWARM_BUDGET_MILLIS);
+        for (Main.Screens type : Main.Screens.values()) {
+            if (!prewarming.contains(type) || !isReady(type)) continue;
+            prewarming.remove(type);
+            get(type);
+            recent.removeValue(type, true);
+            recent.insert(Math.min(1, recent.size), type);
+            scheduleTrim();
+        }
+    }
+
+    /**
+     * Libera una pantalla que no se está mostrando y los activos que solo usaba ella; se volverá a construir
+     * si se usa de nuevo.
+     * @param type La pantalla a liberar.
+     */
+    public void release(Main.Screens type) {
+        if (type == current) return;
+        prewarming.remove(type);
+        Screen screen = built.remove(type);
+        if (screen != null) {
+            recent.removeValue(type, true);
+            screen.dispose();
+        }
+        if (acquired.remove(type)) manifests.release(manifestPaths.get(type));
+        Log.info(TAG, "Pantalla {} liberada ({} activos en memoria)", type, manifests.getResidentCount());
+    }
+
+    public Boolean isBuilt(Main.Screens type) {
+        return built.containsKey(type);
+    }
+
+    private void scheduleTrim() {
+        if (policy == MemoryPolicy.KEEP_ALL || trimPending) return;
+        trimPending = true;
+        Gdx.app.postRunnable(this::trim);
+    }
+
+    /**
+     * Libera las pantallas usadas menos recientemente hasta quedar dentro de `maxResident`.
+     */
+    private void trim() {
+        trimPending = false;
+        for (int i = recent.size - 1; i >= 0 && built.size() > maxResident; i--) {
+            release(recent.get(i));
+        }
+    }
+
+    /**
+     * Libera todas las pantallas construidas. Los activos los libera el `AssetManager` al cerrarse.
+     */
+    @Override
+    public void dispose() {
+        for (Screen screen : built.values()) screen.dispose();
+        built.clear();
+        recent.clear();
+        current = null;
+    }
+}
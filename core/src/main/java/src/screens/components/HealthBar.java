@@ -17,7 +17,6 @@ public class HealthBar extends Label {
         super("", style);
         this.player = player;
         setAlignment(Align.topRight);
-        setFontScale(0.7f);
         setVisible(true);
         updateText();
     }
@@ -3,6 +3,7 @@ package src.screens.components; // Declara el paquete donde se encuentra esta cl
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import src.utils.animation.AtlasLookup;
 import src.utils.animation.SheetCutter;
 
 /**
@@ -36,7 +37,7 @@ public class PowerView extends SpriteAsActor { //HOLAAA Hay que adaptar esto par
         super(assetManager.get("logo.png", Texture.class));
         // Carga la hoja de sprites "ui/icons/powerIcons.png" y la corta horizontalmente en 5 regiones iguales.
         // Se asume que esta hoja contiene 5 íconos de poder dispuestos horizontalmente.
-        icons = SheetCutter.cutHorizontal(assetManager.get("ui/icons/powerIcons.png"), 5);
+        icons = SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "ui/icons/powerIcons.png"), 5);
     }
 
     /**
@@ -4,9 +4,11 @@ package src.screens.game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
@@ -27,19 +29,31 @@ import src.screens.game.gameLayers.GameLayerManager;
 import src.screens.uiScreens.UIScreen;
 import src.utils.ScorePlayer;
 import src.utils.SecondsTimer;
-import src.utils.constants.ConsoleColor;
+import src.utils.log.Log;
 import src.utils.indicators.BorderIndicator;
 import src.utils.indicators.IndicatorManager;
 import src.utils.managers.CameraShakeManager;
 import src.utils.managers.SpawnManager;
 import src.utils.sound.SingleSoundManager;
 import src.world.ActorBox2d;
+import src.world.ActorBox2dSprite;
 import src.world.entities.enemies.Enemy;
+import src.world.entities.items.Rings;
 import src.world.entities.player.Player;
 import src.world.entities.player.PlayerCommon;
 import src.world.entities.Entity;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import src.utils.managers.LevelStreamer;
+import src.utils.managers.RailManager;
+import src.utils.managers.StaticCollisionStreamer;
 import src.utils.managers.TiledManager;
+import src.utils.managers.ViewCuller;
+import src.utils.render.ParallaxBackground;
+import src.utils.render.RenderQueue;
+import src.utils.render.ResolutionGovernor;
+import src.utils.render.RingRenderer;
+import src.utils.render.WorldFrameBuffer;
+import src.world.particles.ParticleFactory;
+import src.world.particles.ParticleSystem;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import src.screens.components.HealthBar;
 
@@ -48,6 +62,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Random;
 
+import static src.utils.constants.Constants.PIXELS_IN_METER;
+import static src.utils.constants.Constants.WORLD_VIEW_HEIGHT;
+import static src.utils.constants.Constants.WORLD_VIEW_WIDTH;
+
 //import static src.utils.constants.Constants.TIME_MINUTES_GAME;
 
 /**
@@ -56,14 +74,26 @@ import java.util.Random;
  * Esta clase actúa como un punto de entrada para el ciclo de vida del juego (inicialización, actualización, renderizado y limpieza).
  */
 public class GameScreen extends UIScreen {
+    private static final String TAG = "GameScreen";
     // === Componentes del juego ===
+    private static final Color SKY_COLOR = new Color(0.4f, 0.5f, 0.8f, 1f); // Fondo del mundo.
     private final Stage stage; // Stage principal que contiene los actores físicos del juego.
+    private final WorldFrameBuffer worldFrameBuffer; // El mundo se dibuja a baja resolución y se escala a la ventana.
+    private final ResolutionGovernor resolutionGovernor; // Ajusta la resolución del mundo según el tiempo de frame.
     private final World world; // Mundo de físicas basado en Box2D.
     public ThreadSecureWorld threadSecureWorld; // Mundo de físicas con soporte para hilos seguros.
     private Boolean isLoad; // Bandera que indica si la pantalla se ha cargado completamente.
 
-    private final OrthogonalTiledMapRenderer tiledRenderer;
+    private static final String LEVEL_PATH = "tiled/levels/green_hill.json"; // Descripción del nivel (lista de segmentos).
     private final TiledManager tiledManager;
+    private final LevelStreamer levelStreamer; // Carga y descarga los segmentos del nivel según la cámara.
+    private final StaticCollisionStreamer staticCollisionStreamer; // Mantiene en el mundo solo las colisiones cercanas.
+    private final RailManager railManager; // Rieles del nivel (loops y curvas) que el jugador recorre sin colisiones.
+    private final ViewCuller viewCuller; // Actores dentro de la cámara: solo sus sprites van a la `RenderQueue`.
+    private final RenderQueue renderQueue; // Sprites visibles del frame, ordenados por capa y textura.
+    private final ParallaxBackground parallaxBackground; // Fondos del nivel, un quad por capa.
+    private final ParticleSystem particleSystem; // Polvo, destellos y explosiones.
+    private final RingRenderer ringRenderer; // Todos los anillos visibles en una sola llamada de dibujo.
 
     private Player player;
     private final ArrayList<ActorBox2d> actors;
@@ -117,13 +147,28 @@ public class GameScreen extends UIScreen {
         this.entityFactory = new EntityFactory(this); // Inicializa la fábrica de entidades
 
 
-        stage = new Stage(new FitViewport(480, 270));
+        int worldWidth = Integer.getInteger("world.width", WORLD_VIEW_WIDTH);
+        int worldHeight = Integer.getInteger("world.height", WORLD_VIEW_HEIGHT);
+        stage = new Stage(new FitViewport(worldWidth, worldHeight), main.getBatch());
+        // Escala dinámica: -Dworld.minScale=1 la desactiva; -Dworld.maxScale=2 dibuja el mundo al doble de resolución.
+        float maxScale = Float.parseFloat(System.getProperty("world.maxScale", "1"));
+        float minScale = Float.parseFloat(System.getProperty("world.minScale", "0.5"));
+        resolutionGovernor = new ResolutionGovernor(minScale, maxScale, Integer.getInteger("world.targetFps", 60));
+        worldFrameBuffer = new WorldFrameBuffer(stage.getViewport(), worldWidth, worldHeight, maxScale);
+        worldFrameBuffer.setRenderScale(resolutionGovernor.getScale());
         world = new World(new Vector2(0, -30f), true); // Gravedad descendente.
         threadSecureWorld = new ThreadSecureWorld(world);
         world.setContactListener(new GameContactListener(this));
 
+        staticCollisionStreamer = new StaticCollisionStreamer(this);
+        railManager = new RailManager();
+        viewCuller = new ViewCuller();
+        renderQueue = new RenderQueue();
+        parallaxBackground = new ParallaxBackground();
+        particleSystem = new ParticleSystem(main.getAssetManager());
+        ringRenderer = new RingRenderer(main.getAssetManager(), Rings.SIZE, Rings.SIZE, 4096);
         tiledManager = new TiledManager(this);
-        tiledRenderer = tiledManager.setupMap("tiled/maps/mapa_sonic (1).tmx");
+        levelStreamer = new LevelStreamer(LEVEL_PATH, main.getAssetManager(), tiledManager, main.getBatch());
 
         world.setContactListener(new GameContactListener(this));
         lastPosition = new Vector2();
@@ -175,21 +220,73 @@ public class GameScreen extends UIScreen {
         return player;
     }
 
+    public StaticCollisionStreamer getStaticCollisionStreamer() {
+        return staticCollisionStreamer;
+    }
+
+    public RailManager getRailManager() {
+        return railManager;
+    }
+
+    public ParallaxBackground getParallaxBackground() {
+        return parallaxBackground;
+    }
+
+    public ParticleSystem getParticleSystem() {
+        return particleSystem;
+    }
+
+    public RingRenderer getRingRenderer() {
+        return ringRenderer;
+    }
+
+    /**
+     * Emite partículas en una posición del mundo.
+     * @param type El tipo de partícula.
+     * @param x Posición X en metros.
+     * @param y Posición Y en metros.
+     */
+    public void addParticle(ParticleFactory.Type type, float x, float y) {
+        particleSystem.emit(type, x, y);
+    }
+
+    /**
+     * Busca una entidad viva por su ID.
+     * @param id El ID de la entidad.
+     * @return La entidad, o null si no existe.
+     */
+    public Entity getEntity(Integer id) {
+        return entities.get(id);
+    }
+
     public void addMainPlayer(){
         if (player != null) return;
         Vector2 position = new Vector2(spawnPlayer.get(0));
         player = new Player(world, position.x, position.y, main.getAssetManager(), this, main.playerColor);
         player.resetStats();
         stage.addActor(player);
+        viewCuller.add(player);
     }
 
     public void addActor(Actor actor){
         if (actor instanceof Entity e) entities.put(e.getId(), e);
-        if (actor instanceof ActorBox2d a) actors.add(a);
+        if (actor instanceof ActorBox2d a) {
+            actors.add(a);
+            viewCuller.add(a);
+        }
 
         stage.addActor(actor);
     }
 
+    /**
+     * Registra un cuerpo estático que no se dibuja (p. ej. un `FloorPoly`). No se añade al Stage ni al
+     * `ViewCuller`, así ni `stage.act()` ni la `RenderQueue` recorren las colisiones del nivel.
+     * @param actor El actor estático.
+     */
+    public void addStatic(ActorBox2d actor){
+        actors.add(actor);
+    }
+
     /**
      * Elimina todos los actores, cuerpos y estructuras asociadas del juego.
      */
@@ -202,6 +299,8 @@ public class GameScreen extends UIScreen {
         actors.clear();
         entities.clear();
         spawnMirror.clear();
+        viewCuller.clear();
+        particleSystem.clear();
     }
 
     /**
@@ -210,7 +309,7 @@ public class GameScreen extends UIScreen {
     public void endGame() {
         isLoad = false;
         player = null;
-        main.setScreen(new src.screens.uiScreens.MenuScreen(main));
+        main.changeScreen(Main.Screens.MENU); // La misma instancia del menú; al volver a jugar, `show` reinicia la partida.
     }
 
     /**
@@ -223,8 +322,9 @@ public class GameScreen extends UIScreen {
         Gdx.input.setInputProcessor(stageUI);
         SingleSoundManager.getInstance().setSoundTracks(Main.SoundTrackType.GAME);
 
-        tiledManager.makeMap();
+        levelStreamer.start(spawnPlayer.get(0).x, getViewWidthInMeters());
         addMainPlayer();
+        staticCollisionStreamer.update(entities.values(), player); // Suelo bajo el jugador antes del primer step.
         initUI();
         isLoad = true;
 
@@ -242,7 +342,7 @@ public class GameScreen extends UIScreen {
     private void initUI() {
         if (player == null) return;
         Label.LabelStyle healthLabelStyle = new Label.LabelStyle();
-        healthLabelStyle.font = main.fonts.interFont;
+        healthLabelStyle.font = main.fonts.interFont.derive(main.fonts.interFont.getSize() * 0.7f);
         healthLabelStyle.fontColor = com.badlogic.gdx.graphics.Color.WHITE;
         HealthBar healthBar = new HealthBar(player, healthLabelStyle);
         stageUI.addActor(healthBar);
@@ -255,12 +355,15 @@ public class GameScreen extends UIScreen {
 //        if (timeGame.isFinished()) endGame();
 //        timeGame.update(delta);
         stage.act();
+        staticCollisionStreamer.update(entities.values(), player);
         threadSecureWorld.step(delta, 6, 2);
+        particleSystem.update(delta);
+        ringRenderer.update(delta);
 
-        // Mostrar coordenadas del jugador en todo momento
+        // Coordenadas del jugador (solo con nivel DEBUG; desactivado no cuesta nada)
         if (player != null) {
             Vector2 playerPosition = player.getBody().getPosition();
-            System.out.println("Jugador en posición: X=" + String.format("%.1f", playerPosition.x) + ", Y=" + String.format("%.1f", playerPosition.y));
+            Log.debug(TAG, "Jugador en posición: X={}, Y={}", playerPosition.x, playerPosition.y);
         }
     }
 
@@ -276,34 +379,45 @@ public class GameScreen extends UIScreen {
      */
     @Override
     public void render(float delta) {
-        Gdx.gl.glClearColor(0.4f, 0.5f, 0.8f, 1f);
+        long frameStart = System.nanoTime();
+        Gdx.gl.glClearColor(SKY_COLOR.r, SKY_COLOR.g, SKY_COLOR.b, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         if (!isLoad || player == null) return;
 
         actLogic(delta);
 
+        OrthographicCamera camera = (OrthographicCamera) stage.getCamera();
         if (player != null) {
-            OrthographicCamera camera = (OrthographicCamera) stage.getCamera();
             OrthographicCamera cameraUI = (OrthographicCamera) stageUI.getCamera();
 
             camera.position.x = MathUtils.lerp(camera.position.x, player.getX() + (player.isFlipX() ? -32 : 32), 0.10f);
             camera.position.y = MathUtils.lerp(camera.position.y, player.getY(), 0.3f);
 
-            tiledRenderer.setView(camera);
-            tiledRenderer.render();
+            levelStreamer.update(camera.position.x / PIXELS_IN_METER, getViewWidthInMeters());
 
             // keep UI camera independent from world camera to avoid HUD jitter
 
             cameraShakeManager.update(delta);
             camera.update();
             cameraUI.update();
+            viewCuller.update(camera);
+            buildRenderQueue();
         }
 
         actUI();
-        stage.draw();
+        // El mundo se dibuja en el FrameBuffer de baja resolución; la UI, encima y a resolución nativa.
+        worldFrameBuffer.begin(SKY_COLOR);
+        drawWorld(camera);
+        worldFrameBuffer.end();
+        worldFrameBuffer.draw(main.getBatch());
         stageUI.act(delta);
         stageUI.draw();
 
+        // La UI queda fuera de la escala dinámica: solo cambia la resolución del FrameBuffer del mundo.
+        if (resolutionGovernor.update(delta, (System.nanoTime() - frameStart) / 1e9f)) {
+            worldFrameBuffer.setRenderScale(resolutionGovernor.getScale());
+        }
+
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             gameLayerManager.setVisibleWithSound(!gameLayerManager.isVisible());
         }
@@ -315,11 +429,8 @@ public class GameScreen extends UIScreen {
     @Override
     public void resize(int width, int height) {
         Gdx.app.postRunnable(() -> {
-            float cameraZoom = 1280.0f / width;
-            if (cameraZoom > 1.3f) cameraZoom = 1.3f;
             OrthographicCamera camera = (OrthographicCamera) stage.getCamera();
-            camera.zoom = cameraZoom;
-            stage.getViewport().update(width, height, false);
+            worldFrameBuffer.resize(width, height); // También ajusta el viewport del mundo al FrameBuffer.
             stageUI.getViewport().update(width, height, true);
             stageUI.getViewport().setWorldSize(width, height); // Fuerza el mundo UI a tamaño de pantalla
             if (player == null) return;
@@ -328,6 +439,14 @@ public class GameScreen extends UIScreen {
         });
     }
 
+    /**
+     * Ancho visible del mundo en metros, teniendo en cuenta el zoom de la cámara.
+     */
+    private float getViewWidthInMeters() {
+        OrthographicCamera camera = (OrthographicCamera) stage.getCamera();
+        return stage.getViewport().getWorldWidth() * camera.zoom / PIXELS_IN_METER;
+    }
+
     /**
      * Agrega efecto de vibración a la cámara principal.
      */
@@ -348,7 +467,43 @@ public class GameScreen extends UIScreen {
     @Override
     public void dispose() {
         clearAll();
+        levelStreamer.dispose();
+        particleSystem.dispose();
+        ringRenderer.dispose();
+        parallaxBackground.dispose();
+        worldFrameBuffer.dispose();
         world.dispose();
+        super.dispose(); // Stage de la UI.
+    }
+
+    /**
+     * Llena la lista de dibujo con los sprites de los actores visibles y la ordena. Se hace después del paso
+     * de físicas y del culling, así que usa las posiciones de este frame.
+     */
+    private void buildRenderQueue() {
+        renderQueue.clear();
+        for (ActorBox2d actor : viewCuller.getVisible()) {
+            if (actor instanceof ActorBox2dSprite sprite) sprite.enqueue(renderQueue);
+        }
+        renderQueue.sort();
+    }
+
+    /**
+     * Dibuja el mundo en una sola pasada del Batch compartido: fondos con parallax, tiles de los segmentos,
+     * anillos (`RingRenderer`), sprites (desde `renderQueue`, no recorriendo el Stage) y encima las partículas.
+     */
+    private void drawWorld(OrthographicCamera camera) {
+        Batch batch = main.getBatch();
+        batch.setColor(Color.WHITE);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        parallaxBackground.render(camera, batch);
+        levelStreamer.render(camera);
+        batch.setProjectionMatrix(camera.combined); // El renderizador de tiles deja la proyección del último segmento.
+        ringRenderer.render(batch, camera.combined); // Los anillos van en la capa de objetos, debajo del resto.
+        renderQueue.submit(batch);
+        particleSystem.draw(batch);
+        batch.end();
     }
 
     /**
@@ -377,10 +532,9 @@ public class GameScreen extends UIScreen {
 
     private void createEntityLogic(Entity.Type type, Vector2 position, Vector2 force, Integer id, Boolean flipX){
         if (entities.get(id) != null) {
-            System.out.println(ConsoleColor.RED + "Entity " + type + ":" + id + " ya existe en la lista" + ConsoleColor.RESET);
+            Log.warn(TAG, "Entity {}:{} ya existe en la lista", type, id);
             return;
         }
-        //System.out.println("Creando Entidad " + id + " Tipo: " + type);
         threadSecureWorld.addModification(() -> {
             Entity newEntity = entityFactory.create(type, world, position, id);
             newEntity.setFlipX(flipX);
@@ -417,7 +571,7 @@ public class GameScreen extends UIScreen {
     public void actEntityPos(Integer id, Float x, Float y, Float fx, Float fy){
         Entity entity = entities.get(id);
         if (entity == null) {
-            System.err.println("Entity " + id + " no encontrada en la lista para cambiar su posicion");
+            Log.warn(TAG, "Entity {} no encontrada en la lista para cambiar su posicion", id);
             return;
         }
         Body body = entity.getBody();
@@ -430,12 +584,13 @@ public class GameScreen extends UIScreen {
     public void addEntity(Entity entity) {
         entities.put(entity.getId(), entity); // Añade la entidad al mapa.
         stage.addActor(entity); // Añade la entidad como actor al Stage.
+        viewCuller.add(entity);
     }
 
     public void actEnemy(Integer id, Enemy.StateType state, Float cronno, Boolean flipX){
         Enemy enemy = (Enemy) entities.get(id);
         if (enemy == null) {
-            System.out.println("Entity " + id + " no encontrada en la lista");
+            Log.warn(TAG, "Entity {} no encontrada en la lista", id);
             return;
         }
         if (enemy.getCurrentStateType() == Enemy.StateType.ATTACK) return;
@@ -446,7 +601,7 @@ public class GameScreen extends UIScreen {
 
     public void actDamageEnemy(Integer receiverId, Body attacker, Integer damage, Float knockback) {
         if (!entities.containsKey(receiverId)) {
-            System.out.println("Entity " + receiverId + " no encontrada en la lista para actualizar dano");
+            Log.warn(TAG, "Entity {} no encontrada en la lista para actualizar dano", receiverId);
             return;
         }
         Body receiver = entities.get(receiverId).getBody();
@@ -461,11 +616,13 @@ public class GameScreen extends UIScreen {
         threadSecureWorld.addModification(() -> {
             Entity entity = entities.get(id);
             if (entity == null) {
-                System.out.println(ConsoleColor.RED + "Entity " + id + " no se pudo eliminar ,no encontrada en la lista" + ConsoleColor.RESET);
+                Log.warn(TAG, "Entity {} no se pudo eliminar, no encontrada en la lista", id);
                 return;
             }
             entities.remove(entity.getId());
             actors.remove(entity);
+            viewCuller.remove(entity);
+            particleSystem.detach(entity);
             removeActor(entity);
             entity.detach();
         });
@@ -479,9 +636,20 @@ public class GameScreen extends UIScreen {
         stage.getActors().removeValue(actor, true);
     }
 
+    /**
+     * Retira un cuerpo estático (p. ej. un `FloorPoly` de un segmento descargado) y lo destruye del mundo.
+     * Debe llamarse fuera de `World.step()`.
+     * @param actor El actor estático a eliminar.
+     */
+    public void removeStatic(ActorBox2d actor){
+        actors.remove(actor);
+        removeActor(actor);
+        actor.detach();
+    }
+
     public void actDamageEnemyNoPacket(Integer id, Integer damage, Float forceX, Float forceY, Float knockback){
         if (!entities.containsKey(id)) {
-            System.out.println("Entity " + id + " no encontrada en la lista para actualizar dano");
+            Log.warn(TAG, "Entity {} no encontrada en la lista para actualizar dano", id);
             return;
         }
         Enemy enemy = (Enemy) entities.get(id);
@@ -496,7 +664,7 @@ public class GameScreen extends UIScreen {
 
     public void spawnBasicEnemyNearPlayer() {
         if (player == null || world == null) {
-            System.out.println("No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
+            Log.warn(TAG, "No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
             return;
         }
 
@@ -514,16 +682,16 @@ public class GameScreen extends UIScreen {
 
             if (enemy != null) {
                 addEntity(enemy);
-                System.out.println("Enemigo ThrowerEnemy con ID " + newEnemyId + " añadido en la posición " + spawnPosition.x + ", " + spawnPosition.y);
+                Log.debug(TAG, "Entidad BASIC con ID {} añadida en la posición {}, {}", newEnemyId, spawnPosition.x, spawnPosition.y);
             } else {
-                System.out.println("Error: No se pudo crear el ThrowerEnemy.");
+                Log.error(TAG, "No se pudo crear la entidad BASIC.");
             }
         }
     }
 
     public void spawnThrowerEnemyNearPlayer() {
         if (player == null || world == null) {
-            System.out.println("No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
+            Log.warn(TAG, "No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
             return;
         }
 
@@ -541,16 +709,16 @@ public class GameScreen extends UIScreen {
 
             if (enemy != null) {
                 addEntity(enemy);
-                System.out.println("Enemigo ThrowerEnemy con ID " + newEnemyId + " añadido en la posición " + spawnPosition.x + ", " + spawnPosition.y);
+                Log.debug(TAG, "Entidad THROWER con ID {} añadida en la posición {}, {}", newEnemyId, spawnPosition.x, spawnPosition.y);
             } else {
-                System.out.println("Error: No se pudo crear el ThrowerEnemy.");
+                Log.error(TAG, "No se pudo crear la entidad THROWER.");
             }
         }
     }
 
     public void spawnTrashNearPlayer() {
         if (player == null || world == null) {
-            System.out.println("No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
+            Log.warn(TAG, "No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
             return;
         }
 
@@ -568,15 +736,15 @@ public class GameScreen extends UIScreen {
 
             if (enemy != null) {
                 addEntity(enemy);
-                System.out.println("Enemigo ThrowerEnemy con ID " + newEnemyId + " añadido en la posición " + spawnPosition.x + ", " + spawnPosition.y);
+                Log.debug(TAG, "Entidad MOUNT con ID {} añadida en la posición {}, {}", newEnemyId, spawnPosition.x, spawnPosition.y);
             } else {
-                System.out.println("Error: No se pudo crear el ThrowerEnemy.");
+                Log.error(TAG, "No se pudo crear la entidad MOUNT.");
             }
         }
     }
     public void spawnTrashUnderPlayer() {
         if (player == null || world == null) {
-            System.out.println("No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
+            Log.warn(TAG, "No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
             return;
         }
 
@@ -594,16 +762,16 @@ public class GameScreen extends UIScreen {
 
             if (enemy != null) {
                 addEntity(enemy);
-                System.out.println("Enemigo ThrowerEnemy con ID " + newEnemyId + " añadido en la posición " + spawnPosition.x + ", " + spawnPosition.y);
+                Log.debug(TAG, "Entidad MOUNT con ID {} añadida en la posición {}, {}", newEnemyId, spawnPosition.x, spawnPosition.y);
             } else {
-                System.out.println("Error: No se pudo crear el ThrowerEnemy.");
+                Log.error(TAG, "No se pudo crear la entidad MOUNT.");
             }
         }
     }
 
     public void spawnTrowerUnderPlayer() {
         if (player == null || world == null) {
-            System.out.println("No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
+            Log.warn(TAG, "No se puede generar un enemigo: el jugador o el mundo no están inicializados.");
             return;
         }
 
@@ -621,16 +789,16 @@ public class GameScreen extends UIScreen {
 
             if (enemy != null) {
                 addEntity(enemy);
-                System.out.println("Enemigo ThrowerEnemy con ID " + newEnemyId + " añadido en la posición " + spawnPosition.x + ", " + spawnPosition.y);
+                Log.debug(TAG, "Entidad THROWER con ID {} añadida en la posición {}, {}", newEnemyId, spawnPosition.x, spawnPosition.y);
             } else {
-                System.out.println("Error: No se pudo crear el ThrowerEnemy.");
+                Log.error(TAG, "No se pudo crear la entidad THROWER.");
             }
         }
     }
 
     public void spawnEggmanPlayer() {
         if (world == null) {
-            System.out.println("No se puede generar Eggman: el mundo no está inicializado.");
+            Log.warn(TAG, "No se puede generar Eggman: el mundo no está inicializado.");
             return;
         }
 
@@ -645,9 +813,9 @@ public class GameScreen extends UIScreen {
 
         if (enemy != null) {
             addEntity(enemy);
-            System.out.println("Eggman con ID " + newEnemyId + " añadido en la posición específica " + spawnPosition.x + ", " + spawnPosition.y);
+            Log.debug(TAG, "Eggman con ID {} añadido en la posición {}, {}", newEnemyId, spawnPosition.x, spawnPosition.y);
         } else {
-            System.out.println("Error: No se pudo crear Eggman.");
+            Log.error(TAG, "No se pudo crear Eggman.");
         }
     }
 
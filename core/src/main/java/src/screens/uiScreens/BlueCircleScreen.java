@@ -12,6 +12,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table; // Importar Table para contentL
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
+import src.utils.animation.AtlasLookup;
 import src.main.Main;
 import src.screens.components.LayersManager;
 
@@ -57,16 +58,13 @@ public class BlueCircleScreen extends UIScreen {
         LayersManager layersManager = new LayersManager(stageUI, 4);
 
         // --- Configuración del Título de la Pantalla ---
-        Label titleLabel = new Label(title, new Label.LabelStyle(main.fonts.briTitleFont, Color.WHITE));
+        // El título va al doble de tamaño: se deriva la fuente en lugar de escalar el Label, para que se vea nítido.
+        Label titleLabel = new Label(title, new Label.LabelStyle(main.fonts.briTitleFont.derive(main.fonts.briTitleFont.getSize() * 2), Color.WHITE));
         titleLabel.setAlignment(Align.center);
-        titleLabel.setFontScaleX(2);
-        titleLabel.setFontScaleY(2);
 
         // --- Configuración del Botón de Salida/Regreso ---
-        TextureRegionDrawable drawableUp = new TextureRegionDrawable(main.getAssetManager().get("ui/buttons/exit.png", Texture.class));
-        TextureRegionDrawable drawableHover = new TextureRegionDrawable(main.getAssetManager().get("ui/buttons/exitHover.png", Texture.class));
-        drawableHover.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        drawableUp.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        TextureRegionDrawable drawableUp = new TextureRegionDrawable(AtlasLookup.find(main.getAssetManager(), "ui/buttons/exit.png"));
+        TextureRegionDrawable drawableHover = new TextureRegionDrawable(AtlasLookup.find(main.getAssetManager(), "ui/buttons/exitHover.png"));
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
         style.imageUp = drawableUp;
         style.imageOver = drawableHover;
@@ -6,6 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table; // Importa Table para la organización
 import src.main.Main;
 import src.screens.components.LayersManager;
+import src.utils.SdfFont;
 import src.utils.constants.MyColors;
 
 /**
@@ -36,10 +37,12 @@ public class InfoScreen extends BlueCircleScreen {
         Label.LabelStyle titleStyle = new Label.LabelStyle(main.fonts.interFont, MyColors.RED);
 
         // Estilo para el contenido de texto principal (legible, con un color suave)
-        Label.LabelStyle contentStyle = new Label.LabelStyle(main.fonts.interFont, Color.RED);
+        // Al 80% del tamaño de los títulos.
+        SdfFont contentFont = main.fonts.interFont.derive(main.fonts.interFont.getSize() * 0.8f);
+        Label.LabelStyle contentStyle = new Label.LabelStyle(contentFont, Color.RED);
 
         // Estilo específico para la sección de información técnica (mantiene el color azul)
-        Label.LabelStyle techInfoStyle = new Label.LabelStyle(main.fonts.interFont, MyColors.RED);
+        Label.LabelStyle techInfoStyle = new Label.LabelStyle(contentFont, MyColors.RED);
 
 
         // --- Creación de la Tabla principal para organizar todo el contenido ---
@@ -49,33 +52,28 @@ public class InfoScreen extends BlueCircleScreen {
 
         // --- Sección de Controles ---
         Label controlsTitle = new Label("Controles:", titleStyle);
-        controlsTitle.setFontScale(1.0f); // Tamaño de fuente grande para el título
         // Añade el título a la tabla, alineado a la izquierda y con un margen inferior
         contentTable.add(controlsTitle).padBottom(10).left().row();
 
         Label controlsContent = new Label(
             "W/A/S/D: Moverse\n",
             contentStyle);
-        controlsContent.setFontScale(0.8f); // Tamaño de fuente legible para el contenido
         controlsContent.setWrap(true); // Permite que el texto se ajuste a múltiples líneas
         // Añade el contenido, ajusta su ancho al 70% de la pantalla, con margen inferior y alineación izquierda
         contentTable.add(controlsContent).width(Gdx.graphics.getWidth() * 0.7f).padBottom(30).left().row();
 
         // --- Sección de Objetivo del Juego ---
         Label objectiveTitle = new Label("Objetivo:", titleStyle);
-        objectiveTitle.setFontScale(1.0f);
         contentTable.add(objectiveTitle).padBottom(10).left().row();
 
         Label objectiveContent = new Label(
             "Limpia el mapa y derrota al malvado Dr. Robotnik para Ganar.",
             contentStyle);
-        objectiveContent.setFontScale(0.8f);
         objectiveContent.setWrap(true);
         contentTable.add(objectiveContent).width(Gdx.graphics.getWidth() * 0.7f).padBottom(30).left().row();
 
         // --- Sección de Información Técnica ---
         Label techInfoTitle = new Label("Información Técnica:", titleStyle);
-        techInfoTitle.setFontScale(1.0f);
         contentTable.add(techInfoTitle).padBottom(10).left().row();
 
         Label techInfoContent = new Label(
@@ -85,7 +83,6 @@ public class InfoScreen extends BlueCircleScreen {
                 "Desarrolladores: Julio Solórzano, Juan Acevedo, Ramón Hernández\n" +
                 "Colaboradores: Daniel Carreño",
             techInfoStyle); // Usa el estilo específico para la info técnica
-        techInfoContent.setFontScale(0.8f);
         techInfoContent.setWrap(true);
         contentTable.add(techInfoContent).width(Gdx.graphics.getWidth() * 0.7f).padBottom(30).left().row();
 
@@ -8,6 +8,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageTextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import src.utils.animation.AtlasLookup;
 import src.main.Main;
 import src.screens.components.LayersManager;
 import src.utils.sound.SingleSoundManager;
@@ -44,10 +45,8 @@ public class MenuScreen extends UIScreen {
 
         // --- Configuración de los botones principales (Jugar, Configuración, Salir) ---
         // Asumiendo que myImageTextbuttonStyle ya está bien definido en UIScreen
-        TextureRegionDrawable drawableUp = new TextureRegionDrawable(main.getAssetManager().get("ui/buttons/info.png", Texture.class));
-        TextureRegionDrawable drawableHover = new TextureRegionDrawable(main.getAssetManager().get("ui/buttons/infoHover.png", Texture.class));
-        drawableHover.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        drawableUp.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        TextureRegionDrawable drawableUp = new TextureRegionDrawable(AtlasLookup.find(main.getAssetManager(), "ui/buttons/info.png"));
+        TextureRegionDrawable drawableHover = new TextureRegionDrawable(AtlasLookup.find(main.getAssetManager(), "ui/buttons/infoHover.png"));
         ImageButton.ImageButtonStyle imageButtonStyle = new ImageButton.ImageButtonStyle();
         imageButtonStyle.imageUp = drawableUp;
         imageButtonStyle.imageOver = drawableHover;
@@ -13,6 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextField;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import src.utils.animation.AtlasLookup;
 import src.main.Main;
 import src.screens.BaseScreen;
 import src.utils.constants.MyColors;
@@ -41,11 +42,11 @@ public abstract class UIScreen extends BaseScreen {
     public UIScreen(Main main) {
         super(main); // Llama al constructor de la clase padre (BaseScreen).
         Skin skin = main.getSkin(); // Obtiene el Skin global del juego, que contiene drawables y estilos predefinidos.
-        stageUI = new Stage(new ScreenViewport()); // Crea un nuevo Stage con un ScreenViewport para una gestión de pantalla adaptable.
+        stageUI = new Stage(new ScreenViewport(), main.getBatch()); // Stage con un ScreenViewport para una gestión de pantalla adaptable, sobre el Batch compartido.
 
         // Carga las texturas para los estados normal y de hover de los botones.
-        TextureRegionDrawable drawableUp = new TextureRegionDrawable(main.getAssetManager().get("ui/buttons/boton.png", Texture.class));
-        TextureRegionDrawable drawableHover = new TextureRegionDrawable(main.getAssetManager().get("ui/buttons/botonHover.png", Texture.class));
+        TextureRegionDrawable drawableUp = new TextureRegionDrawable(AtlasLookup.find(main.getAssetManager(), "ui/buttons/boton.png"));
+        TextureRegionDrawable drawableHover = new TextureRegionDrawable(AtlasLookup.find(main.getAssetManager(), "ui/buttons/botonHover.png"));
 
         // Configura el estilo del botón de imagen con texto (ImageTextButton).
         myImageTextbuttonStyle = new ImageTextButton.ImageTextButtonStyle();
@@ -55,7 +56,7 @@ public abstract class UIScreen extends BaseScreen {
         myImageTextbuttonStyle.overFontColor = MyColors.BLUE; // Color del texto cuando el ratón está sobre el botón.
 
         // Carga la textura para el fondo de los campos de texto.
-        Drawable drawableBg = new TextureRegionDrawable(main.getAssetManager().get("ui/buttons/input.png", Texture.class));
+        Drawable drawableBg = new TextureRegionDrawable(AtlasLookup.find(main.getAssetManager(), "ui/buttons/input.png"));
 
         // Configura el estilo del campo de texto (TextField).
         myTextFieldStyle = new TextField.TextFieldStyle();
@@ -0,0 +1,131 @@
+package src.utils;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.nio.ByteBuffer;
+
+/**
+ * La clase `DistanceField` convierte los glifos rasterizados por FreeType en campos de distancia con signo
+ * (SDF) para `FontCache.getDistanceField`. Por cada glifo calcula la distancia euclídea exacta al borde
+ * (transformada de Felzenszwalb y Huttenlocher, lineal en el número de píxeles) y la guarda en el alfa:
+ * 0,5 en el borde, 1 a `spread` píxeles hacia dentro y 0 a `spread` píxeles hacia fuera.
+ */
+class DistanceField {
+    private static final double INF = 1e20;
+
+    private DistanceField() {
+    }
+
+    /**
+     * Sustituye cada glifo de `data` por su campo de distancia, empaquetado en `target`. El glifo crece
+     * `spread` píxeles por cada lado y sus desplazamientos se corrigen para que siga en el mismo sitio.
+     * @param data Glifos generados por FreeType (se modifican).
+     * @param source Packer con las páginas donde FreeType rasterizó los glifos.
+     * @param target Packer vacío donde se empaquetan los campos de distancia.
+     * @param spread Distancia máxima, en píxeles.
+     */
+    static void build(BitmapFont.BitmapFontData data, PixmapPacker source, PixmapPacker target, int spread) {
+        double[] grid = new double[0];
+        double[] inside = new double[0];
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph glyph : page) {
+                if (glyph == null || glyph.width == 0 || glyph.height == 0) continue;
+                int width = glyph.width + spread * 2;
+                int height = glyph.height + spread * 2;
+                if (grid.length < width * height) {
+                    grid = new double[width * height];
+                    inside = new double[width * height];
+                }
+                Pixmap pixmap = distanceField(glyph, source.getPages().get(glyph.page).getPixmap(), spread, width, height, grid, inside);
+                String name = "g" + glyph.id;
+                Rectangle rect = target.pack(name, pixmap);
+                pixmap.dispose();
+
+                glyph.srcX = (int) rect.x;
+                glyph.srcY = (int) rect.y;
+                glyph.page = target.getPageIndex(name);
+                glyph.width = width;
+                glyph.height = height;
+                glyph.xoffset -= spread;
+                glyph.yoffset -= spread;
+            }
+        }
+    }
+
+    private static Pixmap distanceField(BitmapFont.Glyph glyph, Pixmap page, int spread, int width, int height,
+                                        double[] outside, double[] inside) {
+        ByteBuffer pixels = page.getPixels();
+        int pageWidth = page.getWidth();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int gx = x - spread, gy = y - spread;
+                boolean in = gx >= 0 && gy >= 0 && gx < glyph.width && gy < glyph.height
+                    && (pixels.get(((glyph.srcY + gy) * pageWidth + glyph.srcX + gx) * 4 + 3) & 0xff) > 127;
+                outside[y * width + x] = in ? 0 : INF; // Distancia al píxel interior más cercano.
+                inside[y * width + x] = in ? INF : 0; // Distancia al píxel exterior más cercano.
+            }
+        }
+        transform(outside, width, height);
+        transform(inside, width, height);
+
+        Pixmap result = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        ByteBuffer out = result.getPixels();
+        for (int i = 0, n = width * height; i < n; i++) {
+            double distance = Math.sqrt(inside[i]) - Math.sqrt(outside[i]);
+            int alpha = (int) Math.round(Math.max(0, Math.min(1, 0.5 + distance / (2.0 * spread))) * 255);
+            out.put(i * 4, (byte) 0xff).put(i * 4 + 1, (byte) 0xff).put(i * 4 + 2, (byte) 0xff).put(i * 4 + 3, (byte) alpha);
+        }
+        return result;
+    }
+
+    /**
+     * Transformada de distancia 2D: por columnas y luego por filas. Deja en cada celda la distancia al cuadrado.
+     */
+    private static void transform(double[] grid, int width, int height) {
+        int size = Math.max(width, height);
+        double[] f = new double[size];
+        double[] d = new double[size];
+        double[] z = new double[size + 1];
+        int[] v = new int[size];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) f[y] = grid[y * width + x];
+            transform(f, height, d, v, z);
+            for (int y = 0; y < height; y++) grid[y * width + x] = d[y];
+        }
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(grid, y * width, f, 0, width);
+            transform(f, width, d, v, z);
+            System.arraycopy(d, 0, grid, y * width, width);
+        }
+    }
+
+    /**
+     * Transformada de distancia 1D (envolvente inferior de parábolas).
+     */
+    private static void transform(double[] f, int n, double[] d, int[] v, double[] z) {
+        int k = 0;
+        v[0] = 0;
+        z[0] = -INF;
+        z[1] = INF;
+        for (int q = 1; q < n; q++) {
+            double s = ((f[q] + q * q) - (f[v[k]] + v[k] * v[k])) / (2.0 * q - 2.0 * v[k]);
+            while (s <= z[k]) {
+                k--;
+                s = ((f[q] + q * q) - (f[v[k]] + v[k] * v[k])) / (2.0 * q - 2.0 * v[k]);
+            }
+            k++;
+            v[k] = q;
+            z[k] = s;
+            z[k + 1] = INF;
+        }
+        k = 0;
+        for (int q = 0; q < n; q++) {
+            while (z[k + 1] < q) k++;
+            d[q] = (q - v[k]) * (q - v[k]) + f[v[k]];
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package src.utils;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import src.utils.log.Log;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * La clase `FontCache` genera con FreeType los atlas de campo de distancia de `SdfAtlas` y los guarda en disco (un
+ * .fnt en formato BMFont de texto y un PNG por página). En los siguientes arranques `getDistanceField` devuelve
+ * directamente el .fnt guardado, sin rasterizar nada.
+ * <p>
+ * Cada atlas se identifica por el contenido del TTF (CRC32) y por todos los parámetros que cambian los píxeles
+ * generados: tamaño, margen del campo de distancia, caracteres, etc. Si cambia cualquiera de ellos (o el TTF),
+ * el nombre del archivo cambia y se genera de nuevo; las entradas viejas se quedan en la carpeta sin usarse.
+ * <p>
+ * Los generadores de FreeType se abren solo cuando hace falta y se cierran con `dispose`. No usa OpenGL, así que
+ * puede usarse fuera del hilo de render, pero una instancia no debe usarse desde varios hilos a la vez.
+ */
+public class FontCache implements Disposable {
+    private static final String TAG = "FontCache";
+    private static final int FORMAT_VERSION = 1; // Cambiarlo invalida toda la caché.
+    private static final int PAGE_SIZE = 1024;
+
+    private final FileHandle directory;
+    private final FileHandleResolver resolver; // Con el que se leen los TTF.
+    private final ObjectMap<String, FreeTypeFontGenerator> generators; // Ruta del TTF -> generador abierto.
+    private final ObjectMap<String, String> fileHashes; // Ruta del TTF -> CRC32 de su contenido.
+
+    /**
+     * Constructor de `FontCache`.
+     * @param directory Carpeta de la caché (se crea si no existe).
+     * @param resolver Resolver de los activos, para leer los TTF (del paquete, si lo hay).
+     */
+    public FontCache(FileHandle directory, FileHandleResolver resolver) {
+        this.directory = directory;
+        this.resolver = resolver;
+        generators = new ObjectMap<>();
+        fileHashes = new ObjectMap<>();
+    }
+
+    /**
+     * Devuelve el .fnt de un atlas de campo de distancia (SDF) de la fuente, generándolo si no está en la caché.
+     * Los glifos se rasterizan en blanco y sin borde; el canal alfa de las páginas guarda la distancia al borde
+     * del glifo (0,5 en el borde, mayor dentro), hasta `spread` píxeles hacia cada lado. Ver `SdfAtlas`.
+     * @param ttfPath Ruta interna del TTF.
+     * @param size Tamaño al que se rasteriza el atlas.
+     * @param spread Distancia máxima guardada, en píxeles del atlas; cada glifo lleva ese margen alrededor.
+     * @return El archivo .fnt, que apunta a sus páginas PNG.
+     */
+    public FileHandle getDistanceField(String ttfPath, int size, int spread) {
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = FontCreator.parameter(size, Color.WHITE, new FreeTypeFontGenerator.FreeTypeFontParameter());
+        String name = fileName(ttfPath, parameter, spread);
+        FileHandle fntFile = directory.child(name + ".fnt");
+        // El .fnt se escribe al final, así que si existe sus páginas están completas.
+        if (fntFile.exists()) return fntFile;
+        long start = System.nanoTime();
+        PixmapPacker glyphs = newPacker(parameter);
+        FreeTypeFontGenerator.FreeTypeBitmapFontData data = rasterize(ttfPath, parameter, glyphs);
+        PixmapPacker distances = newPacker(parameter);
+        DistanceField.build(data, glyphs, distances, spread);
+        disposePages(glyphs);
+        // El margen del campo de distancia se declara como relleno: `BitmapFontData` lo descuenta de las medidas.
+        parameter.padTop = parameter.padRight = parameter.padBottom = parameter.padLeft = spread;
+        try {
+            write(data, distances, name, parameter);
+        } finally {
+            distances.dispose();
+        }
+        Log.info(TAG, "Atlas SDF {} generado en {} ms", name, (System.nanoTime() - start) / 1_000_000L);
+        return fntFile;
+    }
+
+    private PixmapPacker newPacker(FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false, new PixmapPacker.SkylineStrategy());
+        // Igual que hace FreeType con su propio packer: el fondo transparente lleva el color del borde (o del
+        // texto) para que el filtro lineal no oscurezca los bordes de las letras.
+        packer.setTransparentColor(parameter.borderWidth > 0 ? parameter.borderColor : parameter.color);
+        packer.getTransparentColor().a = 0;
+        return packer;
+    }
+
+    /**
+     * Rasteriza todos los caracteres de la fuente con FreeType en las páginas de `packer`.
+     */
+    private FreeTypeFontGenerator.FreeTypeBitmapFontData rasterize(String ttfPath, FreeTypeFontGenerator.FreeTypeFontParameter parameter, PixmapPacker packer) {
+        parameter.packer = packer;
+        parameter.incremental = false;
+        try {
+            return generator(ttfPath).generateData(parameter);
+        } finally {
+            parameter.packer = null;
+        }
+    }
+
+    /**
+     * Libera las páginas del packer y sus texturas, si se crearon (la textura de una página libera también su
+     * Pixmap).
+     */
+    private static void disposePages(PixmapPacker packer) {
+        for (PixmapPacker.Page page : packer.getPages()) {
+            if (page.getTexture() != null) page.getTexture().dispose();
+        }
+        packer.dispose();
+    }
+
+    /**
+     * Escribe las páginas (PNG) y el .fnt en formato BMFont de texto, el que lee `BitmapFontData`.
+     */
+    private void write(FreeTypeFontGenerator.FreeTypeBitmapFontData data, PixmapPacker packer, String name,
+                       FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        Array<PixmapPacker.Page> pages = packer.getPages();
+        StringBuilder fnt = new StringBuilder();
+        fnt.append("info face=\"").append(name).append("\" size=").append(parameter.size)
+            .append(" bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1 padding=")
+            .append(parameter.padTop).append(',').append(parameter.padRight).append(',')
+            .append(parameter.padBottom).append(',').append(parameter.padLeft).append(" spacing=")
+            .append(parameter.spaceX).append(',').append(parameter.spaceY).append('\n');
+        int base = (int) (data.capHeight + (data.flipped ? -data.ascent : data.ascent));
+        fnt.append("common lineHeight=").append((int) data.lineHeight).append(" base=").append(base)
+            .append(" scaleW=").append(PAGE_SIZE).append(" scaleH=").append(PAGE_SIZE)
+            .append(" pages=").append(pages.size).append(" packed=0\n");
+        for (int i = 0; i < pages.size; i++) {
+            String pageName = name + "_" + i + ".png";
+            PixmapIO.writePNG(directory.child(pageName), pages.get(i).getPixmap());
+            fnt.append("page id=").append(i).append(" file=\"").append(pageName).append("\"\n");
+        }
+
+        Array<BitmapFont.Glyph> glyphs = new Array<>();
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph glyph : page) if (glyph != null) glyphs.add(glyph);
+        }
+        fnt.append("chars count=").append(glyphs.size).append('\n');
+        for (BitmapFont.Glyph glyph : glyphs) {
+            // `BitmapFontData` guarda el yoffset medido desde la línea base hacia arriba; el .fnt, desde arriba.
+            int yoffset = data.flipped ? glyph.yoffset : -(glyph.height + glyph.yoffset);
+            fnt.append("char id=").append(glyph.id).append(" x=").append(glyph.srcX).append(" y=").append(glyph.srcY)
+                .append(" width=").append(glyph.width).append(" height=").append(glyph.height)
+                .append(" xoffset=").append(glyph.xoffset).append(" yoffset=").append(yoffset)
+                .append(" xadvance=").append(glyph.xadvance).append(" page=").append(glyph.page).append(" chnl=0\n");
+        }
+
+        StringBuilder kernings = new StringBuilder();
+        int kerningCount = 0;
+        for (BitmapFont.Glyph first : glyphs) {
+            if (first.kerning == null) continue;
+            for (BitmapFont.Glyph second : glyphs) {
+                int amount = first.getKerning((char) second.id);
+                if (amount == 0) continue;
+                kernings.append("kerning first=").append(first.id).append(" second=").append(second.id)
+                    .append(" amount=").append(amount).append('\n');
+                kerningCount++;
+            }
+        }
+        fnt.append("kernings count=").append(kerningCount).append('\n').append(kernings);
+        directory.child(name + ".fnt").writeString(fnt.toString(), false, "UTF-8");
+    }
+
+    private FreeTypeFontGenerator generator(String ttfPath) {
+        FreeTypeFontGenerator generator = generators.get(ttfPath);
+        if (generator == null) {
+            generator = new FreeTypeFontGenerator(resolver.resolve(ttfPath));
+            generators.put(ttfPath, generator);
+        }
+        return generator;
+    }
+
+    /**
+     * Nombre de la entrada: el nombre del TTF, el tamaño y un hash del TTF y de los parámetros.
+     */
+    private String fileName(String ttfPath, FreeTypeFontGenerator.FreeTypeFontParameter p, int spread) {
+        String key = FORMAT_VERSION + "|" + fileHash(ttfPath) + "|" + p.size + "|" + color(p.color)
+            + "|" + p.borderWidth + "|" + color(p.borderColor) + "|" + p.borderStraight + "|" + p.borderGamma
+            + "|" + p.shadowOffsetX + "|" + p.shadowOffsetY + "|" + color(p.shadowColor)
+            + "|" + p.padTop + "," + p.padRight + "," + p.padBottom + "," + p.padLeft
+            + "|" + p.spaceX + "," + p.spaceY + "|" + p.kerning + "|" + p.mono + "|" + p.hinting + "|" + p.gamma
+            + "|" + p.renderCount + "|" + p.flip + "|" + p.characters.hashCode() + "|" + spread;
+        String face = resolver.resolve(ttfPath).nameWithoutExtension();
+        return face + "-" + p.size + (spread > 0 ? "-sdf" : "") + "-" + crc(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String fileHash(String ttfPath) {
+        String hash = fileHashes.get(ttfPath);
+        if (hash == null) {
+            hash = crc(resolver.resolve(ttfPath).readBytes());
+            fileHashes.put(ttfPath, hash);
+        }
+        return hash;
+    }
+
+    private static String crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static String color(Color color) {
+        return color == null ? "-" : color.toString();
+    }
+
+    /**
+     * Cierra los generadores de FreeType abiertos (los atlas ya escritos no los necesitan).
+     */
+    @Override
+    public void dispose() {
+        for (FreeTypeFontGenerator generator : generators.values()) generator.dispose();
+        generators.clear();
+    }
+}
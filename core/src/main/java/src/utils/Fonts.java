@@ -1,9 +1,8 @@
 package src.utils;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.Disposable;
 import src.utils.constants.MyColors;
 
@@ -13,82 +12,81 @@ import src.utils.constants.MyColors;
  * gestión de recursos, ya que todas las fuentes se cargan al inicio y se liberan
  * correctamente al finalizar, implementando la interfaz `Disposable` de LibGDX para evitar
  * pérdidas de memoria.
+ * <p>
+ * Cada tipografía tiene un único atlas de campo de distancia (`SdfAtlas`), y todas las fuentes de esa
+ * tipografía salen de él: el tamaño, el borde y la sombra se aplican al dibujar. Para otro tamaño se usa
+ * `derive` sobre la fuente más parecida (p. ej. `briTitleFont.derive(96)`), que no cuesta texturas nuevas.
  */
 public class Fonts implements Disposable {
-    // Definición de las fuentes BitmapFont que serán accesibles públicamente.
-    public final BitmapFont interFont; // Fuente Inter para texto general.
-    public final BitmapFont interNameFont; // Fuente Inter para nombres con borde.
-    public final BitmapFont interNameFontSmall; // Fuente Inter para nombres pequeños con borde.
-    public final BitmapFont briFont; // Fuente Bricolage Grotesque para texto general.
-    public final BitmapFont briTitleFont; // Fuente Bricolage Grotesque para títulos con borde y sombra.
-    public final BitmapFont briBorderFont; // Fuente Bricolage Grotesque con borde.
+    private static final String CACHE_DIR = "cache/fonts"; // Relativa a la carpeta local del juego.
+    public static final String BRICOLAGE = "ui/fonts/Bricolage_Grotesque/BricolageGrotesque_48pt-Regular.ttf";
+    public static final String INTER = "ui/fonts/Inter/Inter_28pt-Regular.ttf";
+    private static final int SDF_SIZE = 64; // Tamaño al que se rasterizan los atlas.
+    private static final int SDF_SPREAD = 12; // Alcanza para bordes de hasta ~9 px en la fuente de 14.
+
+    // Atlas de cada tipografía.
+    private final SdfAtlas bricolage;
+    private final SdfAtlas inter;
+
+    // Definición de las fuentes que serán accesibles públicamente.
+    public final SdfFont interFont; // Fuente Inter para texto general.
+    public final SdfFont interNameFont; // Fuente Inter para nombres con borde.
+    public final SdfFont interNameFontSmall; // Fuente Inter para nombres pequeños con borde.
+    public final SdfFont briFont; // Fuente Bricolage Grotesque para texto general.
+    public final SdfFont briTitleFont; // Fuente Bricolage Grotesque para títulos con borde y sombra.
+    public final SdfFont briBorderFont; // Fuente Bricolage Grotesque con borde.
+
+    /**
+     * Lee (o genera la primera vez, a través de `FontCache`) el atlas de una tipografía. No usa OpenGL, así que
+     * se puede llamar desde un hilo de `StartupGraph`, una tipografía por hilo.
+     * @param resolver Resolver de los activos, con el que se lee el TTF.
+     * @param ttfPath `BRICOLAGE` o `INTER`.
+     * @return El atlas, listo para pasárselo al constructor.
+     */
+    public static SdfAtlas.Data prepare(FileHandleResolver resolver, String ttfPath) {
+        FontCache cache = new FontCache(Gdx.files.local(CACHE_DIR), resolver);
+        try {
+            return new SdfAtlas.Data(cache.getDistanceField(ttfPath, SDF_SIZE, SDF_SPREAD), SDF_SIZE, SDF_SPREAD);
+        } finally {
+            // Los generadores de FreeType ya no hacen falta.
+            cache.dispose();
+        }
+    }
 
     /**
      * Constructor de la clase `Fonts`.
-     * Se encarga de inicializar cada una de las fuentes utilizando `FreeTypeFontGenerator`
-     * y la utilidad `FontCreator.createFont()` con parámetros específicos de estilo.
+     * Crea el atlas de cada tipografía (ya leído con `prepare`) y sobre él cada una de las fuentes con su tamaño
+     * y estilo. Debe llamarse en el hilo de render.
+     * @param bricolageData El atlas de `BRICOLAGE`.
+     * @param interData El atlas de `INTER`.
      */
-    public Fonts(){
+    public Fonts(SdfAtlas.Data bricolageData, SdfAtlas.Data interData){
+        bricolage = new SdfAtlas(bricolageData);
+        inter = new SdfAtlas(interData);
+
         // --- Configuración de briFont ---
-        // Se crea un generador de fuentes a partir del archivo TTF de Bricolage Grotesque.
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("ui/fonts/Bricolage_Grotesque/BricolageGrotesque_48pt-Regular.ttf"));
-        // Se genera la fuente briFont con tamaño 48 y color blanco, sin parámetros adicionales de borde o sombra.
-        briFont = FontCreator.createFont(48, Color.WHITE, generator, new FreeTypeFontGenerator.FreeTypeFontParameter());
+        // Tamaño 48 y color blanco, sin borde ni sombra.
+        briFont = bricolage.create(48, new SdfFont.Style(Color.WHITE));
 
         // --- Configuración de interFont ---
-        // Se cambia el generador para usar el archivo TTF de Inter.
-        generator = new FreeTypeFontGenerator(Gdx.files.internal("ui/fonts/Inter/Inter_28pt-Regular.ttf"));
-        // Se genera interFont con tamaño 40 y color blanco.
-        interFont = FontCreator.createFont(40, Color.WHITE, generator, new FreeTypeFontGenerator.FreeTypeFontParameter());
+        // Tamaño 40 y color blanco.
+        interFont = inter.create(40, new SdfFont.Style(Color.WHITE));
 
         // --- Configuración de briTitleFont y briBorderFont ---
-        // Se vuelve a usar el generador de Bricolage Grotesque.
-        generator = new FreeTypeFontGenerator(Gdx.files.internal("ui/fonts/Bricolage_Grotesque/BricolageGrotesque_48pt-Regular.ttf"));
-        // Se crea un objeto de parámetros para configurar el estilo de la fuente.
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        // Se configura el ancho del borde.
-        parameter.borderWidth = 4;
-        // Se establece el color del borde utilizando un color personalizado de `MyColors`.
-        parameter.borderColor = MyColors.BLUE;
-        // Se establece el color de la sombra, también de `MyColors`.
-        parameter.shadowColor = MyColors.BLUE;
-        // Se define el desplazamiento de la sombra en X (hacia la izquierda).
-        parameter.shadowOffsetX = -2;
-        // Se define el desplazamiento de la sombra en Y (hacia arriba).
-        parameter.shadowOffsetY = 2;
-        // Se genera briTitleFont con tamaño 48 y color amarillo, usando los parámetros configurados.
-        briTitleFont = FontCreator.createFont(48, MyColors.YELLOW, generator, parameter);
-
-        // Se modifican los parámetros existentes para crear briBorderFont.
-        // Se cambia el color del borde a negro.
-        parameter.borderColor = Color.BLACK;
-        // Se elimina la sombra al establecer su color en nulo.
-        parameter.shadowColor = null;
-        // Se restablecen los desplazamientos de la sombra a cero.
-        parameter.shadowOffsetX = 0;
-        parameter.shadowOffsetY = 0;
-        // Se genera briBorderFont con tamaño 48 y color blanco, con el borde negro y sin sombra.
-        briBorderFont = FontCreator.createFont(48, Color.WHITE, generator, parameter);
+        // Tamaño 48 y color amarillo, con borde azul de 4 px y sombra azul desplazada (-2, 2).
+        briTitleFont = bricolage.create(48, new SdfFont.Style(MyColors.YELLOW)
+            .outline(4, MyColors.BLUE)
+            .shadow(-2, 2, MyColors.BLUE));
+        // Tamaño 48 y color blanco, con el borde negro y sin sombra.
+        briBorderFont = bricolage.create(48, new SdfFont.Style(Color.WHITE).outline(4, Color.BLACK));
 
         // --- Configuración de interNameFont y interNameFontSmall ---
-        // Se vuelve a usar el generador de Inter.
-        generator= new FreeTypeFontGenerator(Gdx.files.internal("ui/fonts/Inter/Inter_28pt-Regular.ttf"));
-        // Se crea un nuevo objeto de parámetros para estas fuentes.
-        parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        // Se configura el ancho del borde.
-        parameter.borderWidth = 3;
-        // Se establece el color del borde a negro.
-        parameter.borderColor = Color.BLACK;
-        // Se genera interNameFont con tamaño 32 y color rojo, con el borde negro.
-        interNameFont = FontCreator.createFont(32, MyColors.RED, generator, parameter);
-        // Se modifica el ancho del borde para la versión pequeña.
-        parameter.borderWidth = 2;
-        // Se genera interNameFontSmall con tamaño 14 y color rojo, con un borde más delgado.
-        interNameFontSmall = FontCreator.createFont(14, MyColors.RED, generator, parameter);
+        // Tamaño 32 y color rojo, con el borde negro.
+        interNameFont = inter.create(32, new SdfFont.Style(MyColors.RED).outline(3, Color.BLACK));
+        // Tamaño 14 y color rojo, con un borde más delgado.
+        interNameFontSmall = inter.create(14, new SdfFont.Style(MyColors.RED).outline(2, Color.BLACK));
     }
 
-
-
     /**
      * Implementación del método `dispose()` de la interfaz `Disposable`.
      * Este método es vital para liberar los recursos de memoria y las texturas
@@ -103,5 +101,7 @@ public class Fonts implements Disposable {
         briFont.dispose();
         briTitleFont.dispose();
         briBorderFont.dispose();
+        bricolage.dispose();
+        inter.dispose();
     }
 }
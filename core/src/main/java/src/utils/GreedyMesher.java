@@ -0,0 +1,55 @@
+package src.utils;
+
+import java.util.ArrayList;
+
+/**
+ * La clase `GreedyMesher` agrupa las celdas sólidas de una cuadrícula en el menor número posible
+ * de rectángulos (greedy meshing). Se usa para generar colisiones a partir de los tiles del mapa:
+ * en lugar de un cuerpo por tile o por polígono dibujado a mano, cada bloque de tiles sólidos
+ * contiguos se convierte en un único rectángulo.
+ */
+public class GreedyMesher {
+    /**
+     * Recorre la cuadrícula fila por fila y, por cada celda sólida no cubierta, extiende un rectángulo
+     * primero a lo ancho y después hacia arriba mientras todas las celdas sigan siendo sólidas.
+     *
+     * @param solid Cuadrícula indexada como `solid[x][y]`, con `y = 0` en la fila inferior.
+     * @param width Número de columnas de la cuadrícula.
+     * @param height Número de filas de la cuadrícula.
+     * @return Lista de rectángulos `{x, y, ancho, alto}` en unidades de celda.
+     */
+    public static ArrayList<int[]> mesh(boolean[][] solid, int width, int height) {
+        ArrayList<int[]> rectangles = new ArrayList<>();
+        boolean[][] used = new boolean[width][height]; // Celdas ya cubiertas por algún rectángulo.
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!solid[x][y] || used[x][y]) continue;
+
+                // Extiende a lo ancho mientras haya celdas sólidas libres.
+                int w = 1;
+                while (x + w < width && solid[x + w][y] && !used[x + w][y]) w++;
+
+                // Extiende hacia arriba mientras la fila completa [x, x+w) sea sólida y esté libre.
+                int h = 1;
+                while (y + h < height && isRowFree(solid, used, x, w, y + h)) h++;
+
+                for (int i = x; i < x + w; i++) {
+                    for (int j = y; j < y + h; j++) used[i][j] = true;
+                }
+                rectangles.add(new int[]{x, y, w, h});
+            }
+        }
+        return rectangles;
+    }
+
+    /**
+     * Comprueba si todas las celdas de una fila, en el rango de columnas dado, son sólidas y no están cubiertas.
+     */
+    private static boolean isRowFree(boolean[][] solid, boolean[][] used, int x, int w, int y) {
+        for (int i = x; i < x + w; i++) {
+            if (!solid[i][y] || used[i][y]) return false;
+        }
+        return true;
+    }
+}
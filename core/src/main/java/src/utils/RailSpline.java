@@ -0,0 +1,137 @@
+package src.utils;
+
+import com.badlogic.gdx.math.CatmullRomSpline;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * La clase `RailSpline` representa un riel: una curva suave (Catmull-Rom) que pasa por los puntos de una
+ * polilínea dibujada en Tiled y que está parametrizada por longitud de arco. Es decir, `valueAt(s)` devuelve
+ * el punto que está a `s` metros del inicio medidos sobre la curva, de modo que avanzar `velocidad * delta`
+ * por el riel es siempre avanzar la misma distancia, sin importar cómo estén repartidos los puntos.
+ * <p>
+ * La curva se muestrea una sola vez al construirse; las consultas interpolan entre muestras sin crear objetos.
+ */
+public class RailSpline {
+    public static final int SAMPLES_PER_SPAN = 16; // Muestras por tramo entre dos puntos de la polilínea.
+
+    private final float[] xs, ys; // Posiciones muestreadas (en metros).
+    private final float[] lengths; // Longitud de arco acumulada hasta cada muestra.
+    private final Rectangle bounds; // Caja que contiene todas las muestras.
+
+    /**
+     * Constructor de `RailSpline`.
+     * @param points Puntos de la polilínea en metros (al menos 2). La curva pasa por todos ellos.
+     */
+    public RailSpline(Vector2[] points) {
+        if (points.length < 2) throw new IllegalArgumentException("Un riel necesita al menos 2 puntos");
+
+        // Catmull-Rom abierto: el primer y el último punto se duplican como puntos de control.
+        Vector2[] controls = new Vector2[points.length + 2];
+        controls[0] = points[0];
+        System.arraycopy(points, 0, controls, 1, points.length);
+        controls[controls.length - 1] = points[points.length - 1];
+        CatmullRomSpline<Vector2> spline = new CatmullRomSpline<>(controls, false);
+
+        int count = (points.length - 1) * SAMPLES_PER_SPAN + 1;
+        xs = new float[count];
+        ys = new float[count];
+        lengths = new float[count];
+        Vector2 sample = new Vector2();
+        for (int i = 0; i < count; i++) {
+            spline.valueAt(sample, i / (float) (count - 1));
+            xs[i] = sample.x;
+            ys[i] = sample.y;
+            if (i > 0) lengths[i] = lengths[i - 1] + Vector2.dst(xs[i - 1], ys[i - 1], xs[i], ys[i]);
+        }
+
+        bounds = new Rectangle(xs[0], ys[0], 0, 0);
+        for (int i = 1; i < count; i++) bounds.merge(xs[i], ys[i]);
+    }
+
+    /**
+     * Longitud total del riel en metros.
+     */
+    public Float getLength() {
+        return lengths[lengths.length - 1];
+    }
+
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Calcula el punto del riel a una distancia dada del inicio.
+     * @param s Longitud de arco en metros (se limita a [0, longitud]).
+     * @param out Vector donde se escribe el resultado.
+     * @return `out`, para encadenar llamadas.
+     */
+    public Vector2 valueAt(float s, Vector2 out) {
+        int i = sampleBefore(s);
+        float t = segmentAlpha(i, s);
+        return out.set(MathUtils.lerp(xs[i], xs[i + 1], t), MathUtils.lerp(ys[i], ys[i + 1], t));
+    }
+
+    /**
+     * Calcula la dirección (unitaria) del riel a una distancia dada del inicio, en el sentido de avance de `s`.
+     * @param s Longitud de arco en metros (se limita a [0, longitud]).
+     * @param out Vector donde se escribe el resultado.
+     * @return `out`, para encadenar llamadas.
+     */
+    public Vector2 tangentAt(float s, Vector2 out) {
+        int i = sampleBefore(s);
+        return out.set(xs[i + 1] - xs[i], ys[i + 1] - ys[i]).nor();
+    }
+
+    /**
+     * Busca el punto del riel más cercano a una posición.
+     * @param x Coordenada X en metros.
+     * @param y Coordenada Y en metros.
+     * @param maxDistance Distancia máxima (en metros) a la que se acepta el punto.
+     * @return La longitud de arco del punto más cercano, o -1 si ninguno está a menos de `maxDistance`.
+     */
+    public float nearest(float x, float y, float maxDistance) {
+        if (x < bounds.x - maxDistance || x > bounds.x + bounds.width + maxDistance) return -1;
+        if (y < bounds.y - maxDistance || y > bounds.y + bounds.height + maxDistance) return -1;
+
+        float best = -1;
+        float bestDistance = maxDistance * maxDistance;
+        for (int i = 0; i < xs.length - 1; i++) {
+            // Proyección del punto sobre el segmento [i, i+1].
+            float dx = xs[i + 1] - xs[i];
+            float dy = ys[i + 1] - ys[i];
+            float lengthSquared = dx * dx + dy * dy;
+            float t = lengthSquared == 0 ? 0 : MathUtils.clamp(((x - xs[i]) * dx + (y - ys[i]) * dy) / lengthSquared, 0, 1);
+            float distance = Vector2.dst2(x, y, xs[i] + dx * t, ys[i] + dy * t);
+            if (distance <= bestDistance) {
+                bestDistance = distance;
+                best = MathUtils.lerp(lengths[i], lengths[i + 1], t);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Índice de la muestra anterior (o igual) a la longitud de arco dada, por búsqueda binaria.
+     */
+    private int sampleBefore(float s) {
+        int low = 0;
+        int high = lengths.length - 2;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lengths[mid] <= s) low = mid;
+            else high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Posición relativa (0 a 1) de `s` dentro del segmento que empieza en la muestra `i`.
+     */
+    private float segmentAlpha(int i, float s) {
+        float segmentLength = lengths[i + 1] - lengths[i];
+        if (segmentLength == 0) return 0;
+        return MathUtils.clamp((s - lengths[i]) / segmentLength, 0, 1);
+    }
+}
@@ -0,0 +1,167 @@
+package src.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * La clase `SdfAtlas` es el atlas de campo de distancia de una tipografía (generado por
+ * `FontCache.getDistanceField`) junto con el shader que lo dibuja. De un mismo atlas salen todas las fuentes
+ * de la tipografía (`create`), de cualquier tamaño y con cualquier borde o sombra, sin más texturas: cada
+ * fuente solo tiene sus propias medidas (`BitmapFontData`) y su estilo.
+ * <p>
+ * El shader recorta el glifo en la distancia 0,5 con un suavizado de un píxel de pantalla (`fwidth`), así que
+ * el texto se ve nítido a cualquier escala. El borde es el mismo recorte desplazado hacia fuera y la sombra,
+ * el recorte de una muestra desplazada, compuesta por detrás del glifo.
+ */
+public class SdfAtlas implements Disposable {
+    private static final String VERTEX_SHADER = ""
+        + "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "    v_color.a = v_color.a * (255.0 / 254.0);\n"
+        + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    // Los colores del estilo se multiplican por el color de vértice (el tinte del Label), igual que cuando el
+    // color iba dentro de los píxeles de la fuente.
+    private static final String FRAGMENT_SHADER = ""
+        + "#ifdef GL_ES\n"
+        + "#extension GL_OES_standard_derivatives : enable\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "uniform sampler2D u_texture;\n"
+        + "uniform vec4 u_fillColor;\n"
+        + "uniform vec4 u_outlineColor;\n"
+        + "uniform float u_outline;\n"
+        + "uniform vec4 u_shadowColor;\n"
+        + "uniform vec2 u_shadowOffset;\n"
+        + "void main() {\n"
+        + "    float distance = texture2D(u_texture, v_texCoords).a;\n"
+        + "    float smoothing = max(0.7 * fwidth(distance), 0.001);\n"
+        + "    float edge = 0.5 - u_outline;\n"
+        + "    float fill = smoothstep(0.5 - smoothing, 0.5 + smoothing, distance);\n"
+        + "    vec4 glyph = mix(u_outlineColor, u_fillColor, fill);\n"
+        + "    glyph.a *= smoothstep(edge - smoothing, edge + smoothing, distance);\n"
+        + "    float shadowDistance = texture2D(u_texture, v_texCoords - u_shadowOffset).a;\n"
+        + "    float shadow = u_shadowColor.a * smoothstep(edge - smoothing, edge + smoothing, shadowDistance);\n"
+        + "    float alpha = glyph.a + shadow * (1.0 - glyph.a);\n"
+        + "    vec3 color = (glyph.rgb * glyph.a + u_shadowColor.rgb * shadow * (1.0 - glyph.a)) / max(alpha, 0.0001);\n"
+        + "    gl_FragColor = v_color * vec4(color, alpha);\n"
+        + "}\n";
+
+    private final FileHandle fntFile;
+    private final Integer size;
+    private final Integer spread;
+    private final Array<TextureRegion> regions;
+    private final ShaderProgram shader;
+
+    /**
+     * Constructor de `SdfAtlas`. Crea las texturas de las páginas (con filtro lineal) y el shader, así que debe
+     * llamarse en el hilo de render; la lectura de archivos ya la hizo `Data`.
+     * @param data El atlas leído de disco.
+     */
+    public SdfAtlas(Data data) {
+        this.fntFile = data.fntFile;
+        this.size = data.size;
+        this.spread = data.spread;
+        regions = new Array<>(data.pages.size);
+        for (Pixmap page : data.pages) {
+            Texture texture = new Texture(page);
+            texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            regions.add(new TextureRegion(texture));
+            page.dispose();
+        }
+        data.pages.clear();
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) throw new GdxRuntimeException("No se pudo compilar el shader de fuentes SDF: " + shader.getLog());
+    }
+
+    /**
+     * Crea una fuente de la tipografía. Comparte las texturas del atlas, así que no hace falta liberarla.
+     * @param size Tamaño de la fuente en píxeles.
+     * @param style Colores, borde y sombra, en píxeles a ese tamaño.
+     * @return La nueva fuente.
+     */
+    public SdfFont create(float size, SdfFont.Style style) {
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(fntFile, false);
+        float scale = size / this.size;
+        // FreeType suma el ancho del borde al avance de cada glifo; se hace lo mismo para conservar el espaciado.
+        int advance = Math.round(style.outlineWidth / scale);
+        if (advance != 0) {
+            for (BitmapFont.Glyph[] page : data.glyphs) {
+                if (page == null) continue;
+                for (BitmapFont.Glyph glyph : page) if (glyph != null) glyph.xadvance += advance;
+            }
+        }
+        SdfFont font = new SdfFont(data, regions, this, size, style);
+        data.setScale(scale);
+        return font;
+    }
+
+    public ShaderProgram getShader() {
+        return shader;
+    }
+
+    public Integer getSpread() {
+        return spread;
+    }
+
+    public Integer getPageWidth() {
+        return regions.first().getTexture().getWidth();
+    }
+
+    public Integer getPageHeight() {
+        return regions.first().getTexture().getHeight();
+    }
+
+    /**
+     * El atlas leído de disco, con sus páginas ya decodificadas. No usa OpenGL, así que puede crearse en otro
+     * hilo (ver `StartupGraph`); las texturas las crea `SdfAtlas`.
+     */
+    public static class Data {
+        private final FileHandle fntFile;
+        private final Integer size;
+        private final Integer spread;
+        private final Array<Pixmap> pages;
+
+        /**
+         * @param fntFile El .fnt devuelto por `FontCache.getDistanceField`.
+         * @param size Tamaño al que se rasterizó el atlas.
+         * @param spread Distancia máxima guardada en el atlas, en píxeles del atlas.
+         */
+        public Data(FileHandle fntFile, int size, int spread) {
+            this.fntFile = fntFile;
+            this.size = size;
+            this.spread = spread;
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(fntFile, false);
+            pages = new Array<>(data.imagePaths.length);
+            for (String path : data.imagePaths) pages.add(new Pixmap(Gdx.files.getFileHandle(path, fntFile.type())));
+        }
+    }
+
+    /**
+     * Libera las texturas del atlas y el shader. Las fuentes creadas dejan de poder dibujarse.
+     */
+    @Override
+    public void dispose() {
+        for (TextureRegion region : regions) region.getTexture().dispose();
+        regions.clear();
+        shader.dispose();
+    }
+}
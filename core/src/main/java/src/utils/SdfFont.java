@@ -0,0 +1,142 @@
+package src.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * La clase `SdfFont` es una fuente de un `SdfAtlas`: un tamaño y un estilo (relleno, borde y sombra) sobre el
+ * atlas de campo de distancia de su tipografía. Se usa como cualquier `BitmapFont` (en `LabelStyle`,
+ * `TextButtonStyle`, `TextField`...): su `BitmapFontCache` cambia al shader del atlas y carga el estilo
+ * justo antes de dibujar el texto, y deja el shader anterior al terminar.
+ * <p>
+ * El tamaño se guarda en la escala de `BitmapFontData`, así que no hay que usar `Label.setFontScale` con estas
+ * fuentes (la reemplazaría); para otro tamaño se usa `derive`, que sale del mismo atlas y se ve igual de nítido.
+ */
+public class SdfFont extends BitmapFont {
+    private final SdfAtlas atlas;
+    private final Float size;
+    private final Style style;
+
+    SdfFont(BitmapFontData data, Array<TextureRegion> regions, SdfAtlas atlas, float size, Style style) {
+        super(data, regions, true);
+        this.atlas = atlas;
+        this.size = size;
+        this.style = style;
+    }
+
+    /**
+     * Devuelve la misma fuente a otro tamaño, con el borde y la sombra escalados en proporción (como haría
+     * `setFontScale`, pero sin perder nitidez). Comparte el atlas, así que no hace falta liberarla.
+     * @param size Nuevo tamaño en píxeles.
+     */
+    public SdfFont derive(float size) {
+        return atlas.create(size, style.scaled(size / this.size));
+    }
+
+    public Float getSize() {
+        return size;
+    }
+
+    @Override
+    public BitmapFontCache newFontCache() {
+        return new SdfFontCache(this, usesIntegerPositions());
+    }
+
+    /**
+     * Carga el estilo en el shader del atlas, ya activo en el Batch. Las medidas en píxeles se pasan a unidades
+     * del atlas con la escala actual de la fuente.
+     */
+    private void applyStyle(ShaderProgram shader) {
+        float scale = getScaleX(); // Píxeles de pantalla por píxel del atlas.
+        shader.setUniformf("u_fillColor", style.fill);
+        shader.setUniformf("u_outlineColor", style.outlineWidth > 0 ? style.outlineColor : style.fill);
+        // En el atlas, una distancia de `spread` píxeles equivale a 0,5 de alfa.
+        shader.setUniformf("u_outline", Math.min(0.45f, style.outlineWidth / scale / (2f * atlas.getSpread())));
+        if (style.shadowColor == null) {
+            shader.setUniformf("u_shadowColor", 0f, 0f, 0f, 0f);
+            shader.setUniformf("u_shadowOffset", 0f, 0f);
+        } else {
+            shader.setUniformf("u_shadowColor", style.shadowColor);
+            shader.setUniformf("u_shadowOffset", style.shadowOffsetX / scale / atlas.getPageWidth(),
+                style.shadowOffsetY / scale / atlas.getPageHeight());
+        }
+    }
+
+    /**
+     * Estilo de una `SdfFont`, con las mismas opciones que `FreeTypeFontParameter` (medidas en píxeles). Los
+     * desplazamientos de la sombra siguen el criterio de FreeType: la Y positiva va hacia abajo.
+     */
+    public static class Style {
+        public final Color fill;
+        public Float outlineWidth;
+        public Color outlineColor;
+        public Float shadowOffsetX, shadowOffsetY;
+        public Color shadowColor;
+
+        public Style(Color fill) {
+            this.fill = new Color(fill);
+            outlineWidth = 0f;
+            outlineColor = Color.BLACK;
+            shadowOffsetX = 0f;
+            shadowOffsetY = 0f;
+        }
+
+        public Style outline(float width, Color color) {
+            outlineWidth = width;
+            outlineColor = new Color(color);
+            return this;
+        }
+
+        public Style shadow(float offsetX, float offsetY, Color color) {
+            shadowOffsetX = offsetX;
+            shadowOffsetY = offsetY;
+            shadowColor = new Color(color);
+            return this;
+        }
+
+        /**
+         * Copia del estilo con el borde y la sombra multiplicados por `factor`.
+         */
+        Style scaled(float factor) {
+            Style scaled = new Style(fill).outline(outlineWidth * factor, outlineColor);
+            if (shadowColor != null) scaled.shadow(shadowOffsetX * factor, shadowOffsetY * factor, shadowColor);
+            return scaled;
+        }
+    }
+
+    /**
+     * Caché de texto que dibuja con el shader del atlas.
+     */
+    private static class SdfFontCache extends BitmapFontCache {
+        SdfFontCache(SdfFont font, boolean integer) {
+            super(font, integer);
+        }
+
+        @Override
+        public void draw(Batch batch) {
+            ShaderProgram previous = begin(batch);
+            super.draw(batch);
+            batch.setShader(previous);
+        }
+
+        @Override
+        public void draw(Batch batch, int start, int end) {
+            ShaderProgram previous = begin(batch);
+            super.draw(batch, start, end);
+            batch.setShader(previous);
+        }
+
+        private ShaderProgram begin(Batch batch) {
+            SdfFont font = (SdfFont) getFont();
+            ShaderProgram previous = batch.getShader();
+            batch.setShader(font.atlas.getShader()); // Vacía el Batch y deja el shader activo.
+            font.applyStyle(font.atlas.getShader());
+            return previous;
+        }
+    }
+}
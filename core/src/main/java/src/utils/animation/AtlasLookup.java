@@ -0,0 +1,103 @@
+package src.utils.animation;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * La clase `AtlasLookup` traduce rutas de imágenes sueltas (p. ej. "world/entities/Sonic/Sonic_idle.png")
+ * a regiones de los atlas generados por la tarea de Gradle `packTextures`. Así el código sigue usando las
+ * rutas de siempre y, si los atlas existen, todos los sprites del mundo comparten una sola textura y el
+ * `SpriteBatch` no tiene que vaciarse cada vez que cambia de sprite.
+ * <p>
+ * Si un atlas no se ha generado (por ejemplo al ejecutar desde el IDE sin Gradle), las rutas de su carpeta
+ * se cargan como texturas sueltas, igual que antes.
+ */
+public class AtlasLookup {
+    public static final String WORLD_ATLAS = "atlas/world.atlas";
+    public static final String UI_ATLAS = "atlas/ui.atlas";
+
+    // Carpeta empaquetada -> atlas que la contiene. El nombre de la región es la ruta relativa sin extensión.
+    private static final String[][] PACKED_FOLDERS = {
+        {"world/entities/", WORLD_ATLAS},
+        {"ui/buttons/", UI_ATLAS},
+    };
+
+    /**
+     * Indica si la imagen está dentro de un atlas generado (y por tanto no hace falta cargarla suelta).
+     * @param resolver El resolver de los activos (el del paquete, si lo hay, para no consultar el disco).
+     * @param texturePath Ruta de la imagen suelta.
+     */
+    public static Boolean isPacked(FileHandleResolver resolver, String texturePath) {
+        String atlas = atlasOf(texturePath);
+        return atlas != null && resolver.resolve(atlas).exists();
+    }
+
+    /**
+     * Encola en el `AssetManager` la imagen: su atlas si está empaquetada, o la textura suelta si no.
+     * Cargar el mismo atlas varias veces no tiene coste, el `AssetManager` lo comparte.
+     * @param assetManager El AssetManager del juego.
+     * @param texturePath Ruta de la imagen suelta.
+     */
+    public static void load(AssetManager assetManager, String texturePath) {
+        assetManager.load(descriptorOf(assetManager.getFileHandleResolver(), texturePath));
+    }
+
+    /**
+     * El recurso que hay que cargar para tener la imagen: su atlas si está empaquetada, o la textura suelta si no.
+     * Varias imágenes de un mismo atlas dan descriptores con el mismo archivo (ver `AssetManifest`).
+     * Las texturas sueltas de la interfaz se cargan con filtro lineal, igual que las páginas de `UI_ATLAS`.
+     * @param resolver El resolver de los activos.
+     * @param texturePath Ruta de la imagen suelta.
+     */
+    public static AssetDescriptor<?> descriptorOf(FileHandleResolver resolver, String texturePath) {
+        if (isPacked(resolver, texturePath)) return new AssetDescriptor<>(atlasOf(texturePath), TextureAtlas.class);
+        if (UI_ATLAS.equals(atlasOf(texturePath))) {
+            TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+            parameter.minFilter = Texture.TextureFilter.Linear;
+            parameter.magFilter = Texture.TextureFilter.Linear;
+            return new AssetDescriptor<>(texturePath, Texture.class, parameter);
+        }
+        return new AssetDescriptor<>(texturePath, Texture.class);
+    }
+
+    /**
+     * Devuelve la región de una imagen, buscándola primero en su atlas y si no como textura suelta.
+     * El recurso debe haberse cargado antes con `load`.
+     * @param assetManager El AssetManager del juego.
+     * @param texturePath Ruta de la imagen suelta (p. ej. "world/entities/Objetos/anillos.png").
+     * @return Una región que cubre la imagen completa.
+     */
+    public static TextureRegion find(AssetManager assetManager, String texturePath) {
+        String atlas = atlasOf(texturePath);
+        if (atlas != null && assetManager.isLoaded(atlas, TextureAtlas.class)) {
+            TextureAtlas.AtlasRegion region = assetManager.get(atlas, TextureAtlas.class).findRegion(regionName(texturePath));
+            if (region != null) return region;
+        }
+        return new TextureRegion(assetManager.get(texturePath, Texture.class));
+    }
+
+    private static String atlasOf(String texturePath) {
+        for (String[] folder : PACKED_FOLDERS) {
+            if (texturePath.startsWith(folder[0])) return folder[1];
+        }
+        return null;
+    }
+
+    /**
+     * Nombre de la región dentro del atlas: la ruta relativa a la carpeta empaquetada, sin extensión.
+     */
+    private static String regionName(String texturePath) {
+        for (String[] folder : PACKED_FOLDERS) {
+            if (!texturePath.startsWith(folder[0])) continue;
+            String name = texturePath.substring(folder[0].length());
+            int dot = name.lastIndexOf('.');
+            return dot < 0 ? name : name.substring(0, dot);
+        }
+        return texturePath;
+    }
+}
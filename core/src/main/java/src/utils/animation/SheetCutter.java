@@ -6,6 +6,8 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 /**
  * La clase SheetCutter proporciona métodos utilitarios para cortar una hoja de textura (spritesheet)
  * en múltiples TextureRegions, que pueden ser usados para animaciones o para extraer sprites individuales.
+ * Cada método acepta una `Texture` suelta o una `TextureRegion` (p. ej. una `AtlasRegion` obtenida con
+ * `AtlasLookup`); en el segundo caso los frames se cortan dentro de la región, sobre la textura del atlas.
  */
 public class SheetCutter {
     /**
@@ -87,4 +89,54 @@ public class SheetCutter {
         }
         return frames;
     }
+
+    /**
+     * Corta horizontalmente una región (por ejemplo de un atlas) en un número específico de frames.
+     *
+     * @param sheet La región que contiene la hoja completa.
+     * @param amount El número de frames en los que se debe cortar la región horizontalmente.
+     * @return Un array de TextureRegion que contiene los frames cortados.
+     */
+    public static TextureRegion[] cutHorizontal(TextureRegion sheet, Integer amount){
+        TextureRegion[][] tmp = sheet.split(sheet.getRegionWidth() / amount, sheet.getRegionHeight());
+        TextureRegion[] frames = new TextureRegion[amount];
+        System.arraycopy(tmp[0], 0, frames, 0, amount);
+        return frames;
+    }
+
+    /**
+     * Corta verticalmente una región (por ejemplo de un atlas) en un número específico de frames.
+     *
+     * @param sheet La región que contiene la hoja completa.
+     * @param amount El número de frames en los que se debe cortar la región verticalmente.
+     * @return Un array de TextureRegion que contiene los frames cortados.
+     */
+    public static TextureRegion[] cutVertical(TextureRegion sheet, Integer amount){
+        TextureRegion[][] tmp = sheet.split(sheet.getRegionWidth(), sheet.getRegionHeight() / amount);
+        TextureRegion[] frames = new TextureRegion[amount];
+        for (int i = 0; i < amount; i++) {
+            frames[i] = tmp[i][0];
+        }
+        return frames;
+    }
+
+    /**
+     * Corta una región (por ejemplo de un atlas) en una cuadrícula de filas y columnas.
+     *
+     * @param sheet La región que contiene la hoja completa.
+     * @param rows El número de filas en la cuadrícula.
+     * @param columns El número de columnas en la cuadrícula.
+     * @return Un array de TextureRegion con todos los frames, de izquierda a derecha y de arriba a abajo.
+     */
+    public static TextureRegion[] cutSheet(TextureRegion sheet, Integer rows, Integer columns){
+        TextureRegion[][] tmp = sheet.split(sheet.getRegionWidth() / columns, sheet.getRegionHeight() / rows);
+        TextureRegion[] frames = new TextureRegion[rows * columns];
+        int index = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                frames[index++] = tmp[i][j];
+            }
+        }
+        return frames;
+    }
 }
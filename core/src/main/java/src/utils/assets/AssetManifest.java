@@ -0,0 +1,60 @@
+package src.utils.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectSet;
+import src.utils.animation.AtlasLookup;
+
+/**
+ * La clase `AssetManifest` es la lista de activos que necesita una pantalla o un nivel, leída de un JSON en
+ * "assets/manifests". Formato:
+ * <pre>
+ * { "include": [ "manifests/common.json" ],      // Otros manifiestos cuyos activos también se necesitan.
+ *   "textures": [ "ui/bg/sonicFondo.jpg" ],      // Texturas sueltas.
+ *   "regions": [ "ui/buttons/info.png" ] }       // Imágenes que pueden estar en un atlas (ver `AtlasLookup`).
+ * </pre>
+ * Los activos de los manifiestos incluidos se añaden a la lista, sin repetir archivos (varias regiones del
+ * mismo atlas quedan en una sola entrada). Los manifiestos los crea y guarda `AssetManifests`.
+ */
+public class AssetManifest {
+    private final String path;
+    private final Array<AssetDescriptor<?>> assets;
+
+    AssetManifest(String path, JsonValue json, AssetManifests manifests) {
+        this.path = path;
+        assets = new Array<>();
+        ObjectSet<String> files = new ObjectSet<>();
+
+        JsonValue include = json.get("include");
+        if (include != null) {
+            for (JsonValue included : include) {
+                for (AssetDescriptor<?> asset : manifests.get(included.asString()).assets) add(asset, files);
+            }
+        }
+        JsonValue textures = json.get("textures");
+        if (textures != null) {
+            for (JsonValue texture : textures) add(new AssetDescriptor<>(texture.asString(), Texture.class), files);
+        }
+        JsonValue regions = json.get("regions");
+        if (regions != null) {
+            for (JsonValue region : regions) add(AtlasLookup.descriptorOf(manifests.getResolver(), region.asString()), files);
+        }
+    }
+
+    private void add(AssetDescriptor<?> asset, ObjectSet<String> files) {
+        if (files.add(asset.fileName)) assets.add(asset);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Activos del manifiesto, incluidos los de sus `include`, cada archivo una sola vez.
+     */
+    public Array<AssetDescriptor<?>> getAssets() {
+        return assets;
+    }
+}
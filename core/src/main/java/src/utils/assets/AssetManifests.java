@@ -0,0 +1,121 @@
+package src.utils.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import src.utils.log.Log;
+
+/**
+ * La clase `AssetManifests` carga y descarga los activos del juego por manifiestos (`AssetManifest`), con un
+ * contador de referencias por archivo compartido entre todos los manifiestos: un activo se encola en el
+ * `AssetManager` cuando el primer manifiesto que lo usa se adquiere, y se descarga cuando se libera el último.
+ * Así, p. ej., los botones comunes a todas las pantallas se quedan en memoria mientras alguna pantalla los use,
+ * y el fondo del menú se libera cuando el menú deja de estar construido.
+ * <p>
+ * `acquire` solo encola la carga (no bloquea); quien necesite los activos debe esperar a `isLoaded`
+ * avanzando el `AssetManager` (ver `LoadingScreen` y `ScreenRegistry`).
+ */
+public class AssetManifests {
+    private static final String TAG = "AssetManifests";
+
+    private final AssetManager assetManager;
+    private final ParallelTextureLoader textureLoader; // Null si el AssetManager usa el cargador de texturas normal.
+    private final ObjectMap<String, AssetManifest> manifests; // Ruta -> manifiesto ya leído.
+    private final ObjectIntMap<String> references; // Archivo -> número de manifiestos adquiridos que lo usan.
+
+    /**
+     * Constructor de `AssetManifests`. Si el `AssetManager` ya tiene registrado un `ParallelTextureLoader`, las
+     * texturas de los manifiestos se decodifican por adelantado con él.
+     */
+    public AssetManifests(AssetManager assetManager) {
+        this.assetManager = assetManager;
+        textureLoader = assetManager.getLoader(Texture.class) instanceof ParallelTextureLoader
+            ? (ParallelTextureLoader) assetManager.getLoader(Texture.class) : null;
+        manifests = new ObjectMap<>();
+        references = new ObjectIntMap<>();
+    }
+
+    /**
+     * Devuelve un manifiesto, leyéndolo la primera vez.
+     * @param path Ruta interna del JSON (p. ej. "manifests/menu.json").
+     */
+    public AssetManifest get(String path) {
+        AssetManifest manifest = manifests.get(path);
+        if (manifest != null) return manifest;
+        // Se leen con el mismo resolver que los activos, así que también salen del paquete si lo hay.
+        FileHandle file = assetManager.getFileHandleResolver().resolve(path);
+        if (!file.exists()) throw new GdxRuntimeException("No existe el manifiesto " + path);
+        manifest = new AssetManifest(path, new JsonReader().parse(file), this);
+        manifests.put(path, manifest);
+        return manifest;
+    }
+
+    /**
+     * El resolver del `AssetManager`, con el que se buscan también los atlas de las regiones.
+     */
+    FileHandleResolver getResolver() {
+        return assetManager.getFileHandleResolver();
+    }
+
+    /**
+     * Suma una referencia a cada activo del manifiesto y encola la carga de los que no estaban cargados.
+     * @param path Ruta del manifiesto.
+     */
+    public void acquire(String path) {
+        int queued = 0;
+        for (AssetDescriptor<?> asset : get(path).getAssets()) {
+            if (references.getAndIncrement(asset.fileName, 0, 1) > 0) continue;
+            boolean fresh = !assetManager.contains(asset.fileName);
+            assetManager.load(asset);
+            // Las texturas nuevas empiezan a decodificarse ya, en paralelo (ver `ParallelTextureLoader`).
+            if (fresh && asset.type == Texture.class && textureLoader != null) textureLoader.prefetch(asset.fileName);
+            queued++;
+        }
+        Log.debug(TAG, "Adquirido {} ({} activos nuevos)", path, queued);
+    }
+
+    /**
+     * Resta una referencia a cada activo del manifiesto y descarga los que ya no usa ningún manifiesto.
+     * Los activos aún en cola se quitan de la cola.
+     * @param path Ruta del manifiesto.
+     */
+    public void release(String path) {
+        int unloaded = 0;
+        for (AssetDescriptor<?> asset : get(path).getAssets()) {
+            int count = references.get(asset.fileName, 0);
+            if (count == 0) continue;
+            if (count > 1) {
+                references.put(asset.fileName, count - 1);
+                continue;
+            }
+            references.remove(asset.fileName, 0);
+            if (assetManager.contains(asset.fileName)) assetManager.unload(asset.fileName);
+            if (asset.type == Texture.class && textureLoader != null) textureLoader.cancel(asset.fileName);
+            unloaded++;
+        }
+        Log.debug(TAG, "Liberado {} ({} activos descargados)", path, unloaded);
+    }
+
+    /**
+     * Indica si todos los activos del manifiesto están cargados.
+     */
+    public boolean isLoaded(String path) {
+        for (AssetDescriptor<?> asset : get(path).getAssets()) {
+            if (!assetManager.isLoaded(asset.fileName, asset.type)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Número de archivos con alguna referencia (cargados o en cola).
+     */
+    public Integer getResidentCount() {
+        return references.size;
+    }
+}
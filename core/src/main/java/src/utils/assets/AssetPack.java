@@ -0,0 +1,169 @@
+package src.utils.assets;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * La clase `AssetPack` lee el paquete de activos que genera la tarea `packAssets` de Gradle: todos los archivos
+ * de "assets/" en un solo archivo, con un índice al principio. El paquete se proyecta en memoria entero
+ * (`MappedByteBuffer`) al abrirlo, así que leer un activo no abre ni consulta ningún archivo: es un trozo del
+ * buffer, y las páginas se cargan del disco según se leen.
+ * <p>
+ * Formato (big-endian, como `DataOutputStream`):
+ * <pre>
+ * int    MAGIC ("SBPK")
+ * int    VERSION
+ * int    número de entradas
+ * por entrada, ordenadas por hash:  long hash de la ruta, long posición, int longitud, int bytes de la ruta
+ * por entrada, en el mismo orden:   la ruta en UTF-8
+ * datos de los archivos
+ * </pre>
+ * Las rutas son relativas a "assets/" y usan "/". El hash es FNV-1a de 64 bits sobre la ruta en UTF-8; la tarea
+ * falla si dos rutas tienen el mismo, y al buscar se compara también la ruta.
+ */
+public class AssetPack {
+    private static final int MAGIC = 0x5342504B; // "SBPK"
+    private static final int VERSION = 1;
+    private static final int ENTRY_BYTES = 24;
+
+    private final MappedByteBuffer buffer;
+    private final long[] hashes; // Ordenados, para la búsqueda binaria.
+    private final int[] offsets;
+    private final int[] lengths;
+    private final String[] paths;
+    private final long lastModified;
+
+    private AssetPack(MappedByteBuffer buffer, int count, long lastModified) {
+        this.buffer = buffer;
+        this.lastModified = lastModified;
+        hashes = new long[count];
+        offsets = new int[count];
+        lengths = new int[count];
+        paths = new String[count];
+    }
+
+    /**
+     * Proyecta el paquete en memoria y lee su índice.
+     * @param file El archivo del paquete.
+     * @throws IOException Si no se puede leer o no es un paquete de esta versión.
+     */
+    public static AssetPack open(File file) throws IOException {
+        MappedByteBuffer buffer;
+        // La proyección sigue siendo válida después de cerrar el canal, hasta que el buffer se recolecta.
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) throw new IOException("El paquete " + file + " ocupa más de 2 GB");
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < 12 || buffer.getInt(0) != MAGIC) throw new IOException(file + " no es un paquete de activos");
+        if (buffer.getInt(4) != VERSION) throw new IOException("Versión de paquete no soportada en " + file + ": " + buffer.getInt(4));
+
+        AssetPack pack = new AssetPack(buffer, buffer.getInt(8), file.lastModified());
+        int position = 12;
+        int pathPosition = 12 + pack.hashes.length * ENTRY_BYTES;
+        for (int i = 0; i < pack.hashes.length; i++, position += ENTRY_BYTES) {
+            long offset = buffer.getLong(position + 8);
+            int length = buffer.getInt(position + 16);
+            int pathLength = buffer.getInt(position + 20);
+            if (offset < 0 || offset + length > buffer.capacity()) throw new IOException("Entrada fuera del paquete en " + file);
+            pack.hashes[i] = buffer.getLong(position);
+            pack.offsets[i] = (int) offset;
+            pack.lengths[i] = length;
+            byte[] path = new byte[pathLength];
+            buffer.get(pathPosition, path);
+            pack.paths[i] = new String(path, StandardCharsets.UTF_8);
+            pathPosition += pathLength;
+        }
+        return pack;
+    }
+
+    /**
+     * Devuelve el archivo de una ruta. Si no está en el paquete (o es una carpeta), el `FileHandle` lee el
+     * archivo interno de siempre, así que lo que falte en un paquete desactualizado se sigue encontrando.
+     * @param path Ruta relativa a "assets/", como en `Gdx.files.internal`.
+     */
+    public PackFileHandle get(String path) {
+        String normalized = normalize(path);
+        return new PackFileHandle(this, normalized, find(normalized));
+    }
+
+    /**
+     * Número de archivos del paquete.
+     */
+    public int size() {
+        return hashes.length;
+    }
+
+    /**
+     * Busca la entrada de una ruta ya normalizada.
+     * @return Su índice, o -1 si no está.
+     */
+    int find(String path) {
+        int index = Arrays.binarySearch(hashes, hash(path));
+        return index >= 0 && paths[index].equals(path) ? index : -1;
+    }
+
+    /**
+     * Los bytes de una entrada, sin copiarlos: un buffer de solo lectura sobre la proyección.
+     */
+    ByteBuffer slice(int entry) {
+        // `slice(index, length)` no toca la posición del buffer compartido, así que se puede llamar desde
+        // cualquier hilo (los de decodificación de `ParallelTextureLoader`, el del `AssetManager`...).
+        return buffer.slice(offsets[entry], lengths[entry]);
+    }
+
+    int length(int entry) {
+        return lengths[entry];
+    }
+
+    long lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Decodifica una imagen. Si está en el paquete, la decodifica directamente desde la proyección, sin copiar
+     * el archivo a un `byte[]` como hace `new Pixmap(FileHandle)`.
+     * @param file La imagen (PNG, JPEG o BMP).
+     */
+    public static Pixmap decode(FileHandle file) {
+        if (file instanceof PackFileHandle) {
+            ByteBuffer data = ((PackFileHandle) file).slice();
+            if (data != null) {
+                try {
+                    return new Pixmap(data, 0, data.remaining());
+                } catch (Exception e) {
+                    throw new GdxRuntimeException("No se pudo decodificar la imagen " + file.path(), e);
+                }
+            }
+        }
+        return new Pixmap(file);
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre la ruta en UTF-8. Debe coincidir con el de la tarea `packAssets`.
+     */
+    static long hash(String path) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : path.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("./")) normalized = normalized.substring(2);
+        while (normalized.startsWith("/")) normalized = normalized.substring(1);
+        return normalized;
+    }
+}
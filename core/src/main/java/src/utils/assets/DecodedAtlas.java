@@ -0,0 +1,49 @@
+package src.utils.assets;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * La clase `DecodedAtlas` separa la carga de un `TextureAtlas` en dos partes: `read` lee el .atlas y
+ * decodifica sus imágenes (trabajo de CPU, sin OpenGL, así que puede ir en otro hilo) y `create` sube las
+ * páginas a la GPU y crea el atlas, en el hilo de render.
+ */
+public class DecodedAtlas {
+    private final TextureAtlas.TextureAtlasData data;
+    private final Array<Pixmap> pages; // En el mismo orden que `data.getPages()`.
+
+    private DecodedAtlas(TextureAtlas.TextureAtlasData data, Array<Pixmap> pages) {
+        this.data = data;
+        this.pages = pages;
+    }
+
+    /**
+     * Lee el atlas y decodifica sus páginas. No usa OpenGL.
+     * @param atlasFile El archivo .atlas; las imágenes se buscan en su carpeta.
+     */
+    public static DecodedAtlas read(FileHandle atlasFile) {
+        TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+        Array<Pixmap> pages = new Array<>(data.getPages().size);
+        for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) pages.add(AssetPack.decode(page.textureFile));
+        return new DecodedAtlas(data, pages);
+    }
+
+    /**
+     * Crea las texturas de las páginas y el atlas. Debe llamarse en el hilo de render, una sola vez.
+     * @return El atlas; quien lo recibe debe liberarlo.
+     */
+    public TextureAtlas create() {
+        Array<TextureAtlas.TextureAtlasData.Page> dataPages = data.getPages();
+        for (int i = 0; i < dataPages.size; i++) {
+            TextureAtlas.TextureAtlasData.Page page = dataPages.get(i);
+            page.texture = new Texture(pages.get(i), page.format, page.useMipMaps);
+            pages.get(i).dispose();
+        }
+        pages.clear();
+        // `TextureAtlas` usa las texturas ya creadas de las páginas y les aplica el filtro y el wrap del .atlas.
+        return new TextureAtlas(data);
+    }
+}
@@ -0,0 +1,150 @@
+package src.utils.assets;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * La clase `PackFileHandle` es un archivo interno servido desde un `AssetPack`. Se comporta como el
+ * `FileHandle` de `Gdx.files.internal`, pero `read`, `readBytes` y `map` leen del paquete proyectado en memoria.
+ * Las rutas que no están en el paquete (carpetas, archivos añadidos después de empaquetar) se leen del disco o
+ * del classpath como siempre.
+ * <p>
+ * `parent`, `child` y `sibling` devuelven también archivos del paquete, así que los cargadores que buscan
+ * archivos relativos a otro (las imágenes de un .atlas o de un .tmx) siguen leyendo del paquete.
+ */
+public class PackFileHandle extends FileHandle {
+    private final AssetPack pack;
+    private final int entry; // Índice en el paquete; -1 si la ruta no está en él.
+
+    PackFileHandle(AssetPack pack, String path, int entry) {
+        super(path, Files.FileType.Internal);
+        this.pack = pack;
+        this.entry = entry;
+    }
+
+    /**
+     * Los bytes del archivo sin copiar, o null si no está en el paquete.
+     */
+    ByteBuffer slice() {
+        return entry < 0 ? null : pack.slice(entry);
+    }
+
+    /**
+     * El archivo interno equivalente, para lo que no está en el paquete.
+     */
+    private FileHandle fallback() {
+        return Gdx.files.internal(path());
+    }
+
+    @Override
+    public InputStream read() {
+        if (entry < 0) return fallback().read();
+        return new SliceInputStream(pack.slice(entry));
+    }
+
+    @Override
+    public byte[] readBytes() {
+        if (entry < 0) return fallback().readBytes();
+        byte[] bytes = new byte[pack.length(entry)];
+        pack.slice(entry).get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Devuelve el archivo sin copiarlo, como un buffer de solo lectura sobre el paquete.
+     */
+    @Override
+    public ByteBuffer map(FileChannel.MapMode mode) {
+        if (entry < 0) return fallback().map(mode);
+        if (mode != FileChannel.MapMode.READ_ONLY) throw new GdxRuntimeException("Un archivo del paquete solo se puede proyectar en modo de lectura: " + path());
+        return pack.slice(entry);
+    }
+
+    @Override
+    public boolean exists() {
+        return entry >= 0 || fallback().exists();
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return entry < 0 && fallback().isDirectory();
+    }
+
+    @Override
+    public FileHandle[] list() {
+        return fallback().list();
+    }
+
+    @Override
+    public long length() {
+        return entry < 0 ? fallback().length() : pack.length(entry);
+    }
+
+    @Override
+    public long lastModified() {
+        return entry < 0 ? fallback().lastModified() : pack.lastModified();
+    }
+
+    @Override
+    public FileHandle child(String name) {
+        String path = path();
+        return pack.get(path.isEmpty() ? name : path + "/" + name);
+    }
+
+    @Override
+    public FileHandle sibling(String name) {
+        String path = path();
+        if (path.isEmpty()) throw new GdxRuntimeException("La raíz no tiene hermanos.");
+        return parent().child(name);
+    }
+
+    @Override
+    public FileHandle parent() {
+        String path = path();
+        int slash = path.lastIndexOf('/');
+        return pack.get(slash < 0 ? "" : path.substring(0, slash));
+    }
+
+    /**
+     * `InputStream` sobre un trozo del paquete. Cada lectura copia solo lo que pide quien lee.
+     */
+    private static class SliceInputStream extends InputStream {
+        private final ByteBuffer data;
+
+        SliceInputStream(ByteBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return data.hasRemaining() ? data.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!data.hasRemaining()) return -1;
+            int count = Math.min(length, data.remaining());
+            data.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, data.remaining()));
+            data.position(data.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package src.utils.assets;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * La clase `PackFileHandleResolver` resuelve los nombres de los activos en un `AssetPack`, con la vuelta a los
+ * archivos internos que hace `PackFileHandle` para lo que no está empaquetado. Sustituye a
+ * `InternalFileHandleResolver` en el `AssetManager` y sus cargadores.
+ */
+public class PackFileHandleResolver implements FileHandleResolver {
+    private final AssetPack pack;
+
+    public PackFileHandleResolver(AssetPack pack) {
+        this.pack = pack;
+    }
+
+    @Override
+    public FileHandle resolve(String fileName) {
+        return pack.get(fileName);
+    }
+}
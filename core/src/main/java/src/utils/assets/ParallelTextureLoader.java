@@ -0,0 +1,169 @@
+package src.utils.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * La clase `ParallelTextureLoader` sustituye al `TextureLoader` del `AssetManager` para decodificar las
+ * imágenes (PNG/JPEG) en paralelo. El `AssetManager` carga sus activos de uno en uno en un solo hilo, así que
+ * con su cargador las imágenes grandes (los fondos) se decodifican una detrás de otra.
+ * <p>
+ * Con este cargador, `prefetch` encola la decodificación de una imagen en un grupo de hilos (uno por núcleo) en
+ * cuanto se pide su carga (ver `AssetManifests.acquire`). Cuando el `AssetManager` llega a ella, `loadAsync`
+ * solo recoge el Pixmap ya decodificado (o espera a que termine) y `loadSync` lo sube a la GPU en el hilo de
+ * render, dentro del presupuesto de tiempo de `AssetManager.update`. Como mucho hay `maxDecoded` imágenes
+ * decodificadas o decodificándose a la vez; el resto espera en cola, así la memoria no crece sin límite.
+ * <p>
+ * Las imágenes de los manifiestos se adelantan desde `AssetManifests` y las de los tilesets de los mapas desde
+ * `PrefetchingTmxMapLoader`. Las que no pasan por `prefetch` se decodifican como siempre, en el hilo del
+ * `AssetManager`. Los formatos comprimidos (KTX, ETC1, CIM) se cargan igual que con `TextureLoader`.
+ */
+public class ParallelTextureLoader extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter> implements Disposable {
+    private final ExecutorService decoders;
+    private final Integer maxDecoded;
+    private final ObjectMap<String, CompletableFuture<Pixmap>> decoding; // Ruta -> decodificación en curso o terminada.
+    private final ArrayDeque<FileHandle> waiting; // Imágenes pedidas que esperan un hueco.
+    private TextureData data; // La de la imagen en curso: el AssetManager llama a loadAsync y loadSync en orden.
+
+    /**
+     * Constructor de `ParallelTextureLoader`.
+     * @param resolver Resolución de rutas, como en el resto de cargadores.
+     * @param threads Hilos de decodificación (normalmente uno por núcleo).
+     * @param maxDecoded Máximo de imágenes decodificadas o decodificándose a la vez.
+     */
+    public ParallelTextureLoader(FileHandleResolver resolver, Integer threads, Integer maxDecoded) {
+        super(resolver);
+        this.maxDecoded = Math.max(1, maxDecoded);
+        AtomicInteger count = new AtomicInteger();
+        decoders = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "texture-decoder-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        decoding = new ObjectMap<>();
+        waiting = new ArrayDeque<>();
+    }
+
+    /**
+     * Empieza a decodificar una imagen que se va a cargar (con `AssetManager.load`) en el mismo orden en que se
+     * encola, para que las primeras que pida el `AssetManager` sean las primeras en estar listas.
+     * @param fileName Nombre del activo, como en `AssetManager.load`.
+     */
+    public synchronized void prefetch(String fileName) {
+        FileHandle file = resolve(fileName);
+        if (!isDecodable(file) || decoding.containsKey(file.path()) || waiting.contains(file)) return;
+        waiting.add(file);
+        submitWaiting();
+    }
+
+    /**
+     * Descarta la decodificación adelantada de una imagen cuya carga se ha cancelado (`AssetManager.unload`
+     * antes de cargarse). Si ya se estaba decodificando, el Pixmap se libera al terminar.
+     * @param fileName Nombre del activo.
+     */
+    public synchronized void cancel(String fileName) {
+        FileHandle file = resolve(fileName);
+        waiting.remove(file);
+        CompletableFuture<Pixmap> future = decoding.remove(file.path());
+        if (future != null) future.thenAccept(Pixmap::dispose);
+        submitWaiting();
+    }
+
+    private synchronized void submitWaiting() {
+        while (decoding.size < maxDecoded && !waiting.isEmpty()) {
+            FileHandle file = waiting.poll();
+            decoding.put(file.path(), CompletableFuture.supplyAsync(() -> AssetPack.decode(file), decoders));
+        }
+    }
+
+    /**
+     * Devuelve el Pixmap de una imagen: el adelantado por `prefetch` si lo hay (esperando a que termine) o uno
+     * decodificado en este mismo hilo.
+     */
+    private Pixmap take(FileHandle file) {
+        CompletableFuture<Pixmap> future;
+        synchronized (this) {
+            future = decoding.remove(file.path());
+            if (future == null) waiting.remove(file);
+            submitWaiting();
+        }
+        if (future == null) return AssetPack.decode(file);
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new GdxRuntimeException("No se pudo decodificar la imagen " + file.path(), e.getCause());
+        }
+    }
+
+    private static boolean isDecodable(FileHandle file) {
+        String extension = file.extension().toLowerCase();
+        return !extension.equals("cim") && !extension.equals("etc1") && !extension.equals("ktx") && !extension.equals("zktx");
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        return null;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        Pixmap.Format format = parameter == null ? null : parameter.format;
+        boolean genMipMaps = parameter != null && parameter.genMipMaps;
+        if (parameter != null && parameter.textureData != null) {
+            data = parameter.textureData;
+        } else if (isDecodable(file)) {
+            // Igual que `TextureData.Factory.loadFromFile`, pero con el Pixmap ya decodificado.
+            data = new FileTextureData(file, take(file), format, genMipMaps);
+        } else {
+            data = TextureData.Factory.loadFromFile(file, format, genMipMaps);
+        }
+        if (!data.isPrepared()) data.prepare();
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        TextureData textureData = data;
+        data = null;
+        Texture texture = parameter == null ? null : parameter.texture;
+        if (texture != null) {
+            texture.load(textureData);
+        } else {
+            texture = new Texture(textureData);
+        }
+        if (parameter != null) {
+            texture.setFilter(parameter.minFilter, parameter.magFilter);
+            texture.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        return texture;
+    }
+
+    /**
+     * Detiene los hilos de decodificación y libera los Pixmaps que no llegaron a usarse.
+     */
+    @Override
+    public synchronized void dispose() {
+        decoders.shutdownNow();
+        for (CompletableFuture<Pixmap> future : decoding.values()) future.thenAccept(Pixmap::dispose);
+        decoding.clear();
+        waiting.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package src.utils.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * La clase `PrefetchingTmxMapLoader` es un `TmxMapLoader` que, al leer las dependencias de un mapa (las
+ * imágenes de sus tilesets y capas de imagen, que son las más grandes del juego), las manda a decodificar en
+ * paralelo con `ParallelTextureLoader` antes de que el `AssetManager` las cargue una a una.
+ * <p>
+ * Si el mapa se descarga antes de que se carguen sus imágenes (p. ej. `LevelStreamer` expulsa un segmento que
+ * aún se estaba cargando), hay que llamar a `cancel` para liberar los Pixmaps adelantados que ya no se usarán.
+ */
+public class PrefetchingTmxMapLoader extends TmxMapLoader {
+    private final AssetManager assetManager;
+    private final ParallelTextureLoader textureLoader;
+    private final ObjectMap<String, Array<String>> prefetched; // Mapa -> imágenes adelantadas.
+
+    public PrefetchingTmxMapLoader(FileHandleResolver resolver, AssetManager assetManager, ParallelTextureLoader textureLoader) {
+        super(resolver);
+        this.assetManager = assetManager;
+        this.textureLoader = textureLoader;
+        prefetched = new ObjectMap<>();
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle tmxFile, TmxMapLoader.Parameters parameter) {
+        Array<AssetDescriptor> dependencies = super.getDependencies(fileName, tmxFile, parameter);
+        Array<String> textures = new Array<>();
+        for (AssetDescriptor dependency : dependencies) {
+            // Las que ya están cargadas o en cola no pasarán por el cargador: no se adelantan.
+            if (dependency.type == Texture.class && !assetManager.contains(dependency.fileName)) {
+                textureLoader.prefetch(dependency.fileName);
+                textures.add(dependency.fileName);
+            }
+        }
+        // `getDependencies` corre en el hilo del AssetManager; `cancel`, en el de render.
+        synchronized (prefetched) {
+            prefetched.put(fileName, textures);
+        }
+        return dependencies;
+    }
+
+    /**
+     * Descarta las imágenes adelantadas de un mapa que ya se ha descargado con `AssetManager.unload` y que el
+     * `AssetManager` ya no va a cargar. Las que sigue teniendo (cargadas o en cola) no se tocan.
+     * @param fileName Nombre del mapa, como en `AssetManager.load`.
+     */
+    public void cancel(String fileName) {
+        Array<String> textures;
+        synchronized (prefetched) {
+            textures = prefetched.remove(fileName);
+        }
+        if (textures == null) return;
+        for (String texture : textures) {
+            if (!assetManager.contains(texture)) textureLoader.cancel(texture);
+        }
+    }
+}
@@ -14,6 +14,13 @@ public class Constants {
      */
     public static final float PIXELS_IN_METER = 16f;
 
+    /**
+     * Resolución (en píxeles) con la que se dibuja el mundo antes de escalarlo a la ventana.
+     * Se puede cambiar al ejecutar con `-Dworld.width=...` y `-Dworld.height=...`.
+     */
+    public static final int WORLD_VIEW_WIDTH = 480;
+    public static final int WORLD_VIEW_HEIGHT = 270;
+
     /**
      * El número de anillos (RINGS) que están disponibles o se requieren por juego.
      * Este valor podría representar objetivos, coleccionables o elementos clave para la progresión dentro del juego.
@@ -1,6 +1,6 @@
 package src.utils.indicators;
 
-import com.badlogic.gdx.Gdx;
+import src.utils.log.Log;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Vector2;
@@ -60,8 +60,8 @@ public class IndicatorManager extends Actor {
     public void changeTargetPosition(Integer id,Vector2 targetPosition) {
         // Comprueba si el ID existe en el mapa antes de intentar cambiar el objetivo.
         if (!borderIndicators.containsKey(id)) {
-            // Si el ID no se encuentra, registra un mensaje de error en la consola de LibGDX.
-            Gdx.app.log("IndicatorManager", "id " + id + " no encontrada para cambiar su target position");
+            // Si el ID no se encuentra, registra un aviso en el log.
+            Log.warn("IndicatorManager", "id {} no encontrada para cambiar su target position", id);
             return;
         }
         // Obtiene el indicador por su ID y actualiza su posición objetivo.
@@ -0,0 +1,201 @@
+package src.utils.log;
+
+import com.badlogic.gdx.utils.Disposable;
+import src.utils.constants.ConsoleColor;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * La clase `AsyncLogAppender` escribe los mensajes de `Log` en un archivo desde un hilo propio, para que el
+ * tiempo de frame no dependa de la velocidad del disco ni de la consola.
+ * <p>
+ * Los hilos que registran mensajes reservan una casilla de un buffer circular de tamaño fijo (sin bloquearse
+ * y sin crear objetos), la rellenan y la publican. El hilo de escritura las recorre en orden, arma el texto y
+ * lo escribe. Si el buffer está lleno el mensaje se descarta y se cuenta; el juego nunca espera al log.
+ */
+public class AsyncLogAppender implements Disposable {
+    public static final int DEFAULT_CAPACITY = 4096; // Debe ser potencia de 2.
+    private static final long IDLE_PARK_NANOS = 2_000_000; // Espera del escritor cuando no hay mensajes.
+
+    private final LogEvent[] ring;
+    private final int mask;
+    private final AtomicLong claimed; // Siguiente secuencia a reservar por los productores.
+    private volatile long consumed; // Siguiente secuencia que leerá el escritor (solo la modifica él).
+    private final AtomicLong dropped; // Mensajes descartados por tener el buffer lleno.
+    private long reportedDropped;
+
+    private final Writer file;
+    private final Boolean echoConsole; // Si es true, también se escribe en la consola (desde el hilo del log).
+    private final long startMillis;
+    private final StringBuilder line;
+    private final Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Constructor de `AsyncLogAppender`. Crea el archivo (y sus carpetas) y arranca el hilo de escritura.
+     * @param logFile Archivo donde se escribe el log; se sobrescribe en cada ejecución.
+     * @param echoConsole Si es true, los mensajes también se muestran en la consola (útil en desarrollo).
+     * @param capacity Número de casillas del buffer (se redondea a potencia de 2).
+     */
+    public AsyncLogAppender(File logFile, Boolean echoConsole, Integer capacity) throws IOException {
+        int size = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+        ring = new LogEvent[size];
+        for (int i = 0; i < size; i++) ring[i] = new LogEvent();
+        mask = size - 1;
+        claimed = new AtomicLong();
+        dropped = new AtomicLong();
+
+        File parent = logFile.getAbsoluteFile().getParentFile();
+        if (parent != null) parent.mkdirs();
+        file = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(logFile, false), StandardCharsets.UTF_8));
+        this.echoConsole = echoConsole;
+        startMillis = System.currentTimeMillis();
+        line = new StringBuilder(256);
+
+        running = true;
+        thread = new Thread(this::drainLoop, "log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public AsyncLogAppender(File logFile, Boolean echoConsole) throws IOException {
+        this(logFile, echoConsole, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Reserva una casilla para un mensaje nuevo.
+     * @return La casilla a rellenar, o null si el buffer está lleno (el mensaje se descarta).
+     */
+    LogEvent claim() {
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - consumed >= ring.length) {
+                dropped.incrementAndGet();
+                return null;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                LogEvent event = ring[(int) (sequence & mask)];
+                event.sequence = sequence;
+                return event;
+            }
+        }
+    }
+
+    /**
+     * Publica una casilla ya rellenada para que el hilo de escritura la procese.
+     */
+    static void publish(LogEvent event) {
+        event.published = event.sequence;
+    }
+
+    public Long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        boolean dirty = false;
+        while (true) {
+            long sequence = consumed;
+            LogEvent event = ring[(int) (sequence & mask)];
+            if (event.published != sequence) {
+                if (!running && sequence >= claimed.get()) break;
+                if (dirty) {
+                    flush();
+                    dirty = false;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            write(event);
+            event.clear();
+            consumed = sequence + 1;
+            dirty = true;
+        }
+        flush();
+    }
+
+    private void write(LogEvent event) {
+        reportDropped();
+        line.setLength(0);
+        long elapsed = event.timeMillis - startMillis;
+        line.append('[').append(elapsed / 1000).append('.');
+        long millis = elapsed % 1000;
+        if (millis < 100) line.append('0');
+        if (millis < 10) line.append('0');
+        line.append(millis).append("] ");
+        line.append(event.level).append(' ').append(event.tag).append(": ");
+        event.formatTo(line);
+        if (event.throwable != null) {
+            StringWriter trace = new StringWriter();
+            event.throwable.printStackTrace(new PrintWriter(trace));
+            line.append(System.lineSeparator()).append(trace);
+        }
+        line.append(System.lineSeparator());
+
+        try {
+            file.append(line);
+        } catch (IOException e) {
+            // Si el archivo falla no hay dónde registrarlo; se sigue mostrando por consola si está activa.
+        }
+        if (echoConsole) {
+            String color = switch (event.level) {
+                case ERROR -> ConsoleColor.RED;
+                case WARN -> ConsoleColor.YELLOW;
+                case DEBUG -> ConsoleColor.GRAY;
+                default -> "";
+            };
+            System.out.print(color.isEmpty() ? line : color + line + ConsoleColor.RESET);
+        }
+    }
+
+    /**
+     * Si se descartaron mensajes desde el último aviso, lo deja anotado en el log.
+     */
+    private void reportDropped() {
+        long total = dropped.get();
+        if (total == reportedDropped) return;
+        String warning = "[log] " + (total - reportedDropped) + " mensajes descartados (buffer lleno)" + System.lineSeparator();
+        reportedDropped = total;
+        try {
+            file.append(warning);
+        } catch (IOException ignored) {
+        }
+        if (echoConsole) System.out.print(warning);
+    }
+
+    private void flush() {
+        try {
+            file.flush();
+        } catch (IOException ignored) {
+        }
+        if (echoConsole) System.out.flush();
+    }
+
+    /**
+     * Detiene el hilo de escritura después de vaciar el buffer y cierra el archivo.
+     */
+    @Override
+    public void dispose() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            file.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
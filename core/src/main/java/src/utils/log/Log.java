@@ -0,0 +1,236 @@
+package src.utils.log;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * La clase `Log` es la fachada de registro del juego y sustituye a `System.out`. Cada mensaje tiene un nivel
+ * y una etiqueta (el subsistema que lo emite, p. ej. "TiledManager"), y se puede filtrar por nivel global o
+ * por etiqueta.
+ * <p>
+ * Los mensajes usan `{}` como marcador de argumento y el texto se arma en el hilo de `AsyncLogAppender`, no
+ * en el del juego. Los métodos tienen sobrecargas con `float` e `int` para que, si el nivel está desactivado,
+ * llamar a `Log.debug(TAG, "x={}", x)` no cree ningún objeto ni formatee nada:
+ * <pre>
+ * Log.debug(TAG, "Jugador en posición: X={}, Y={}", position.x, position.y);
+ * </pre>
+ * Antes de `init` (o después de `shutdown`) los mensajes de nivel WARN o superior se escriben directamente
+ * en la salida de error y el resto se ignora.
+ */
+public final class Log {
+    /**
+     * Niveles de registro, de menor a mayor importancia. `OFF` desactiva todo.
+     */
+    public enum Level {
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR,
+        OFF,
+    }
+
+    private static volatile Level level = Level.INFO; // Nivel mínimo global.
+    private static volatile boolean hasTagLevels = false;
+    private static final ConcurrentHashMap<String, Level> tagLevels = new ConcurrentHashMap<>(); // Niveles por etiqueta.
+    private static volatile AsyncLogAppender appender;
+
+    private Log() {
+    }
+
+    /**
+     * Inicia el registro con un appender asíncrono.
+     * @param appender Destino de los mensajes (se libera en `shutdown`).
+     * @param level Nivel mínimo global.
+     */
+    public static void init(AsyncLogAppender appender, Level level) {
+        Log.level = level;
+        Log.appender = appender;
+    }
+
+    /**
+     * Vacía los mensajes pendientes, detiene el hilo de escritura y cierra el archivo.
+     */
+    public static void shutdown() {
+        AsyncLogAppender current = appender;
+        appender = null;
+        if (current != null) current.dispose();
+    }
+
+    public static void setLevel(Level level) {
+        Log.level = level;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Fija el nivel de una etiqueta concreta, que tiene prioridad sobre el nivel global.
+     * @param tag La etiqueta del subsistema.
+     * @param level Su nivel, o null para volver a usar el global.
+     */
+    public static void setLevel(String tag, Level level) {
+        if (level == null) tagLevels.remove(tag);
+        else tagLevels.put(tag, level);
+        hasTagLevels = !tagLevels.isEmpty();
+    }
+
+    /**
+     * Indica si un mensaje de ese nivel y etiqueta se registraría. Útil para evitar calcular argumentos caros.
+     */
+    public static boolean isEnabled(Level messageLevel, String tag) {
+        Level threshold = level;
+        if (hasTagLevels) {
+            Level tagLevel = tagLevels.get(tag);
+            if (tagLevel != null) threshold = tagLevel;
+        }
+        return messageLevel.ordinal() >= threshold.ordinal() && threshold != Level.OFF;
+    }
+
+    // ===== DEBUG =====
+
+    public static void debug(String tag, String message) {
+        if (isEnabled(Level.DEBUG, tag)) publish(begin(Level.DEBUG, tag, message));
+    }
+
+    public static void debug(String tag, String format, Object a) {
+        if (!isEnabled(Level.DEBUG, tag)) return;
+        LogEvent event = begin(Level.DEBUG, tag, format);
+        if (event != null) publish(event.arg(a));
+    }
+
+    public static void debug(String tag, String format, Object a, Object b) {
+        if (!isEnabled(Level.DEBUG, tag)) return;
+        LogEvent event = begin(Level.DEBUG, tag, format);
+        if (event != null) publish(event.arg(a).arg(b));
+    }
+
+    public static void debug(String tag, String format, int a) {
+        if (!isEnabled(Level.DEBUG, tag)) return;
+        LogEvent event = begin(Level.DEBUG, tag, format);
+        if (event != null) publish(event.arg(a));
+    }
+
+    public static void debug(String tag, String format, float a, float b) {
+        if (!isEnabled(Level.DEBUG, tag)) return;
+        LogEvent event = begin(Level.DEBUG, tag, format);
+        if (event != null) publish(event.arg(a).arg(b));
+    }
+
+    public static void debug(String tag, String format, float a, float b, float c, float d) {
+        if (!isEnabled(Level.DEBUG, tag)) return;
+        LogEvent event = begin(Level.DEBUG, tag, format);
+        if (event != null) publish(event.arg(a).arg(b).arg(c).arg(d));
+    }
+
+    public static void debug(String tag, String format, int a, float b, float c) {
+        if (!isEnabled(Level.DEBUG, tag)) return;
+        LogEvent event = begin(Level.DEBUG, tag, format);
+        if (event != null) publish(event.arg(a).arg(b).arg(c));
+    }
+
+    // ===== INFO =====
+
+    public static void info(String tag, String message) {
+        if (isEnabled(Level.INFO, tag)) publish(begin(Level.INFO, tag, message));
+    }
+
+    public static void info(String tag, String format, Object a) {
+        if (!isEnabled(Level.INFO, tag)) return;
+        LogEvent event = begin(Level.INFO, tag, format);
+        if (event != null) publish(event.arg(a));
+    }
+
+    public static void info(String tag, String format, Object a, Object b) {
+        if (!isEnabled(Level.INFO, tag)) return;
+        LogEvent event = begin(Level.INFO, tag, format);
+        if (event != null) publish(event.arg(a).arg(b));
+    }
+
+    public static void info(String tag, String format, int a) {
+        if (!isEnabled(Level.INFO, tag)) return;
+        LogEvent event = begin(Level.INFO, tag, format);
+        if (event != null) publish(event.arg(a));
+    }
+
+    public static void info(String tag, String format, float a, float b) {
+        if (!isEnabled(Level.INFO, tag)) return;
+        LogEvent event = begin(Level.INFO, tag, format);
+        if (event != null) publish(event.arg(a).arg(b));
+    }
+
+    public static void info(String tag, String format, int a, float b, float c) {
+        if (!isEnabled(Level.INFO, tag)) return;
+        LogEvent event = begin(Level.INFO, tag, format);
+        if (event != null) publish(event.arg(a).arg(b).arg(c));
+    }
+
+    // ===== WARN =====
+
+    public static void warn(String tag, String message) {
+        if (isEnabled(Level.WARN, tag)) publish(begin(Level.WARN, tag, message));
+    }
+
+    public static void warn(String tag, String format, Object a) {
+        if (!isEnabled(Level.WARN, tag)) return;
+        LogEvent event = begin(Level.WARN, tag, format);
+        if (event != null) publish(event.arg(a));
+    }
+
+    public static void warn(String tag, String format, Object a, Object b) {
+        if (!isEnabled(Level.WARN, tag)) return;
+        LogEvent event = begin(Level.WARN, tag, format);
+        if (event != null) publish(event.arg(a).arg(b));
+    }
+
+    public static void warn(String tag, String format, int a) {
+        if (!isEnabled(Level.WARN, tag)) return;
+        LogEvent event = begin(Level.WARN, tag, format);
+        if (event != null) publish(event.arg(a));
+    }
+
+    public static void warn(String tag, String format, float a, float b, float c, float d) {
+        if (!isEnabled(Level.WARN, tag)) return;
+        LogEvent event = begin(Level.WARN, tag, format);
+        if (event != null) publish(event.arg(a).arg(b).arg(c).arg(d));
+    }
+
+    // ===== ERROR =====
+
+    public static void error(String tag, String message) {
+        if (isEnabled(Level.ERROR, tag)) publish(begin(Level.ERROR, tag, message));
+    }
+
+    public static void error(String tag, String format, Object a) {
+        if (!isEnabled(Level.ERROR, tag)) return;
+        LogEvent event = begin(Level.ERROR, tag, format);
+        if (event != null) publish(event.arg(a));
+    }
+
+    public static void error(String tag, String message, Throwable throwable) {
+        if (!isEnabled(Level.ERROR, tag)) return;
+        LogEvent event = begin(Level.ERROR, tag, message);
+        if (event == null) return;
+        event.throwable = throwable;
+        publish(event);
+    }
+
+    /**
+     * Reserva y prepara una casilla del appender. Sin appender, los avisos y errores se escriben directamente
+     * en la salida de error (solo ocurre durante el arranque o el cierre).
+     * @return La casilla, o null si no hay appender o su buffer está lleno.
+     */
+    private static LogEvent begin(Level messageLevel, String tag, String format) {
+        AsyncLogAppender current = appender;
+        if (current == null) {
+            if (messageLevel.ordinal() >= Level.WARN.ordinal()) System.err.println(messageLevel + " " + tag + ": " + format);
+            return null;
+        }
+        LogEvent event = current.claim();
+        if (event != null) event.reset(messageLevel, tag, format);
+        return event;
+    }
+
+    private static void publish(LogEvent event) {
+        if (event != null) AsyncLogAppender.publish(event);
+    }
+}
@@ -0,0 +1,86 @@
+package src.utils.log;
+
+/**
+ * Una casilla del buffer circular de `AsyncLogAppender`. Las casillas se crean una sola vez y se reutilizan:
+ * el hilo del juego solo copia el nivel, la etiqueta, el formato y los argumentos (los números sin convertir
+ * a objeto), y el hilo de escritura es quien arma el texto final.
+ */
+final class LogEvent {
+    static final int MAX_ARGS = 4;
+    static final byte OBJECT = 0, FLOAT = 1, INT = 2;
+
+    volatile long published = -1; // Secuencia publicada en esta casilla; el escritor la compara con la que espera.
+    long sequence;
+
+    Log.Level level;
+    String tag;
+    String format;
+    long timeMillis;
+    Throwable throwable;
+
+    int argCount;
+    final byte[] kinds = new byte[MAX_ARGS];
+    final Object[] objects = new Object[MAX_ARGS];
+    final float[] floats = new float[MAX_ARGS];
+    final int[] ints = new int[MAX_ARGS];
+
+    void reset(Log.Level level, String tag, String format) {
+        this.level = level;
+        this.tag = tag;
+        this.format = format;
+        this.timeMillis = System.currentTimeMillis();
+        this.throwable = null;
+        this.argCount = 0;
+    }
+
+    LogEvent arg(Object value) {
+        kinds[argCount] = OBJECT;
+        objects[argCount++] = value;
+        return this;
+    }
+
+    LogEvent arg(float value) {
+        kinds[argCount] = FLOAT;
+        floats[argCount++] = value;
+        return this;
+    }
+
+    LogEvent arg(int value) {
+        kinds[argCount] = INT;
+        ints[argCount++] = value;
+        return this;
+    }
+
+    /**
+     * Escribe el mensaje en `out`, sustituyendo cada `{}` del formato por el siguiente argumento.
+     * Solo lo llama el hilo de escritura.
+     */
+    void formatTo(StringBuilder out) {
+        int arg = 0;
+        int length = format.length();
+        for (int i = 0; i < length; i++) {
+            char c = format.charAt(i);
+            if (c == '{' && i + 1 < length && format.charAt(i + 1) == '}' && arg < argCount) {
+                switch (kinds[arg]) {
+                    case FLOAT -> out.append(floats[arg]);
+                    case INT -> out.append(ints[arg]);
+                    default -> out.append(objects[arg]);
+                }
+                arg++;
+                i++;
+                continue;
+            }
+            out.append(c);
+        }
+    }
+
+    /**
+     * Suelta las referencias para no retener objetos del juego mientras la casilla espera a ser reutilizada.
+     */
+    void clear() {
+        for (int i = 0; i < argCount; i++) objects[i] = null;
+        throwable = null;
+        tag = null;
+        format = null;
+    }
+}
@@ -0,0 +1,109 @@
+package src.utils.managers;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+
+import java.util.ArrayList;
+
+/**
+ * La clase `LevelSegment` representa un tramo de un nivel compuesto por varios mapas Tiled.
+ * Cada segmento ocupa un rango horizontal del mundo (en metros/tiles) y guarda lo que se
+ * construyó a partir de él (entidades; las colisiones se registran con el segmento como propietario)
+ * para poder destruirlo al descargarlo.
+ */
+public class LevelSegment {
+    /**
+     * Estados por los que pasa un segmento mientras la cámara recorre el nivel.
+     */
+    public enum State {
+        UNLOADED, // No hay nada en memoria.
+        LOADING,  // El mapa está encolado en el AssetManager (parseo en segundo plano).
+        LOADED,   // El mapa está en memoria pero sin cuerpos ni entidades en el mundo.
+        BUILT,    // El mapa está en memoria y sus colisiones/entidades existen en el mundo.
+    }
+
+    private final Integer index; // Posición del segmento dentro del nivel.
+    private final String mapPath; // Ruta del archivo .tmx del segmento.
+    private final Float offsetX; // Coordenada X (en metros) donde empieza el segmento.
+    private final Float width; // Ancho del segmento en metros.
+
+    private State state;
+    private TiledMap map;
+    final ArrayList<Integer> entityIds; // Entidades creadas a partir de las capas de entidades del segmento.
+
+    /**
+     * Constructor de `LevelSegment`.
+     * @param index Posición del segmento dentro del nivel.
+     * @param mapPath Ruta del archivo .tmx.
+     * @param offsetX Coordenada X (en metros) donde empieza el segmento.
+     * @param width Ancho del segmento en metros.
+     */
+    public LevelSegment(Integer index, String mapPath, Float offsetX, Float width) {
+        this.index = index;
+        this.mapPath = mapPath;
+        this.offsetX = offsetX;
+        this.width = width;
+        state = State.UNLOADED;
+        entityIds = new ArrayList<>();
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    public String getMapPath() {
+        return mapPath;
+    }
+
+    public Float getOffsetX() {
+        return offsetX;
+    }
+
+    public Float getWidth() {
+        return width;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    void setState(State state) {
+        this.state = state;
+    }
+
+    public TiledMap getMap() {
+        return map;
+    }
+
+    void setMap(TiledMap map) {
+        this.map = map;
+    }
+
+    /**
+     * Indica si el segmento tiene su mapa en memoria (cargado o construido).
+     * @return true si el mapa está disponible para dibujarse.
+     */
+    public Boolean isResident() {
+        return state == State.LOADED || state == State.BUILT;
+    }
+
+    /**
+     * Comprueba si el rango horizontal del segmento se solapa con el rango dado.
+     * @param left Límite izquierdo en metros.
+     * @param right Límite derecho en metros.
+     * @return true si hay solapamiento.
+     */
+    public Boolean overlaps(float left, float right) {
+        return offsetX < right && offsetX + width > left;
+    }
+
+    /**
+     * Distancia horizontal (en metros) entre el segmento y una coordenada X. Es cero si la contiene.
+     * @param x Coordenada X en metros.
+     * @return La distancia al borde más cercano del segmento.
+     */
+    public Float distanceTo(float x) {
+        if (x < offsetX) return offsetX - x;
+        if (x > offsetX + width) return x - (offsetX + width);
+        return 0f;
+    }
+}
@@ -0,0 +1,277 @@
+package src.utils.managers;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import src.utils.assets.PrefetchingTmxMapLoader;
+
+import java.util.ArrayList;
+
+import static src.utils.constants.Constants.PIXELS_IN_METER;
+
+/**
+ * La clase `LevelStreamer` gestiona niveles compuestos por varios segmentos (mapas .tmx colocados uno
+ * detrás de otro en el eje X). Los segmentos se cargan, construyen y descargan a medida que la cámara
+ * avanza, de forma que la memoria y el tiempo de arranque no crecen con la longitud del nivel.
+ * <p>
+ * El parseo de los mapas se hace en el hilo de carga del `AssetManager` (precarga en segundo plano),
+ * la subida de texturas en el hilo de render, y nunca hay más de `maxResidentSegments` mapas en memoria.
+ * El formato del nivel es un JSON con la lista de segmentos:
+ * <pre>
+ * { "maxResidentSegments": 3, "prefetchDistance": 40,
+ *   "segments": [ { "map": "tiled/maps/a.tmx", "width": 500 }, ... ] }
+ * </pre>
+ */
+public class LevelStreamer implements Disposable {
+    private static final int LOAD_BUDGET_MILLIS = 4; // Tiempo máximo por frame dedicado a la carga de mapas.
+
+    private final AssetManager assetManager;
+    private final TiledManager tiledManager;
+    private final ArrayList<LevelSegment> segments;
+    private final Integer maxResidentSegments; // Presupuesto de memoria: mapas residentes como máximo.
+    private final Float prefetchDistance; // Distancia (en metros) a la que se empieza a precargar un segmento.
+
+    private final OrthogonalTiledMapRenderer renderer; // Un único renderizador que se reutiliza para todos los segmentos.
+    private final Matrix4 segmentProjection;
+
+    /**
+     * Constructor de `LevelStreamer`.
+     * @param levelPath Ruta del archivo JSON que describe el nivel.
+     * @param assetManager El AssetManager del juego, usado para cargar los mapas de forma asíncrona.
+     * @param tiledManager El `TiledManager` que convierte cada mapa en cuerpos y entidades.
+     * @param batch El Batch compartido del juego (ver `Main.getBatch`); el renderizador lo usa sin adueñarse de él.
+     */
+    public LevelStreamer(String levelPath, AssetManager assetManager, TiledManager tiledManager, Batch batch) {
+        this.assetManager = assetManager;
+        this.tiledManager = tiledManager;
+        segments = new ArrayList<>();
+        segmentProjection = new Matrix4();
+
+        // Con el resolver del AssetManager, para que también salga del paquete de activos si lo hay.
+        JsonValue level = new JsonReader().parse(assetManager.getFileHandleResolver().resolve(levelPath));
+        maxResidentSegments = Math.max(2, level.getInt("maxResidentSegments", 3));
+        prefetchDistance = level.getFloat("prefetchDistance", 40f);
+
+        float offsetX = 0;
+        for (JsonValue segment : level.get("segments")) {
+            float width = segment.getFloat("width");
+            segments.add(new LevelSegment(segments.size(), segment.getString("map"), offsetX, width));
+            offsetX += width;
+        }
+
+        renderer = new OrthogonalTiledMapRenderer(null, 1f, batch);
+    }
+
+    /**
+     * Ancho total del nivel en metros.
+     * @return La suma del ancho de todos los segmentos.
+     */
+    public Float getLevelWidth() {
+        if (segments.isEmpty()) return 0f;
+        LevelSegment last = segments.get(segments.size() - 1);
+        return last.getOffsetX() + last.getWidth();
+    }
+
+    public ArrayList<LevelSegment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Prepara el nivel alrededor de una posición inicial. Carga de forma bloqueante los segmentos
+     * visibles desde esa posición para que el primer frame tenga suelo bajo el jugador.
+     * Debe llamarse después de `GameScreen.clearAll()`, que ya destruye los cuerpos de los segmentos construidos.
+     * @param x Coordenada X inicial en metros.
+     * @param viewWidth Ancho visible en metros.
+     */
+    public void start(float x, float viewWidth) {
+        for (LevelSegment segment : segments) {
+            // Los cuerpos y entidades ya fueron destruidos por clearAll(); solo se olvidan las referencias.
+            segment.entityIds.clear();
+            if (segment.getState() == LevelSegment.State.BUILT) segment.setState(LevelSegment.State.LOADED);
+        }
+
+        tiledManager.clearStatics();
+
+        float left = x - viewWidth / 2;
+        float right = x + viewWidth / 2;
+        for (LevelSegment segment : segments) {
+            if (!segment.overlaps(left, right)) continue;
+            requestLoad(segment);
+            assetManager.finishLoadingAsset(segment.getMapPath());
+            collectLoaded(segment);
+            build(segment);
+        }
+    }
+
+    /**
+     * Actualiza el estado de los segmentos según la posición de la cámara: precarga los cercanos,
+     * construye los visibles, desmonta los lejanos y libera mapas cuando se supera el presupuesto.
+     * Debe llamarse fuera de `World.step()`.
+     * @param x Coordenada X de la cámara en metros.
+     * @param viewWidth Ancho visible en metros.
+     */
+    public void update(float x, float viewWidth) {
+        assetManager.update(LOAD_BUDGET_MILLIS);
+
+        float left = x - viewWidth / 2;
+        float right = x + viewWidth / 2;
+        for (LevelSegment segment : segments) {
+            Boolean visible = segment.overlaps(left, right);
+            Boolean near = segment.overlaps(left - prefetchDistance, right + prefetchDistance);
+
+            if (near && segment.getState() == LevelSegment.State.UNLOADED) requestLoad(segment);
+            if (segment.getState() == LevelSegment.State.LOADING) {
+                // Si el segmento ya es visible y aún no terminó, se espera para no dejar al jugador sin suelo.
+                if (visible) assetManager.finishLoadingAsset(segment.getMapPath());
+                collectLoaded(segment);
+            }
+            if (visible && segment.getState() == LevelSegment.State.LOADED) build(segment);
+            if (!near && segment.getState() == LevelSegment.State.BUILT) unbuild(segment);
+        }
+
+        enforceBudget(x, left, right);
+    }
+
+    /**
+     * Dibuja los segmentos residentes que intersectan la vista de la cámara.
+     * Cada segmento se dibuja desplazando la proyección por su offset, reutilizando el mismo renderizador.
+     * Debe llamarse entre `begin` y `end` del Batch: las capas se dibujan directamente, sin el `begin`/`end`
+     * propio de `OrthogonalTiledMapRenderer.render()`, para que todo el mundo quepa en una sola pasada del Batch.
+     * Al terminar, el Batch queda con la proyección de la última capa dibujada.
+     * @param camera La cámara del mundo (en píxeles).
+     */
+    public void render(OrthographicCamera camera) {
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+        float left = camera.position.x - viewWidth / 2;
+        float bottom = camera.position.y - viewHeight / 2;
+
+        AnimatedTiledMapTile.updateAnimationBaseTime();
+        for (LevelSegment segment : segments) {
+            if (!segment.isResident()) continue;
+            if (!segment.overlaps(left / PIXELS_IN_METER, (left + viewWidth) / PIXELS_IN_METER)) continue;
+            TiledMap map = segment.getMap();
+            float offsetPixels = segment.getOffsetX() * map.getProperties().get("tilewidth", Integer.class);
+            segmentProjection.set(camera.combined).translate(offsetPixels, 0, 0);
+            renderer.setMap(map);
+            renderer.setView(segmentProjection, left - offsetPixels, bottom, viewWidth, viewHeight);
+            renderLayers(map.getLayers());
+        }
+    }
+
+    /**
+     * Dibuja las capas visibles de un mapa (entrando en los grupos), como haría `renderer.render()`.
+     */
+    private void renderLayers(MapLayers layers) {
+        for (MapLayer layer : layers) {
+            if (!layer.isVisible()) continue;
+            if (layer instanceof MapGroupLayer group) renderLayers(group.getLayers());
+            else if (layer instanceof TiledMapTileLayer tileLayer) renderer.renderTileLayer(tileLayer);
+            else if (layer instanceof TiledMapImageLayer imageLayer) renderer.renderImageLayer(imageLayer);
+        }
+    }
+
+    /**
+     * Encola la carga asíncrona del mapa de un segmento.
+     */
+    private void requestLoad(LevelSegment segment) {
+        if (segment.getState() != LevelSegment.State.UNLOADED) return;
+        assetManager.load(segment.getMapPath(), TiledMap.class);
+        segment.setState(LevelSegment.State.LOADING);
+    }
+
+    /**
+     * Si el mapa de un segmento en carga ya está disponible, lo recoge y lo marca como cargado.
+     */
+    private void collectLoaded(LevelSegment segment) {
+        if (segment.getState() != LevelSegment.State.LOADING) return;
+        if (!assetManager.isLoaded(segment.getMapPath())) return;
+        TiledMap map = assetManager.get(segment.getMapPath(), TiledMap.class);
+        tiledManager.prepareMap(map);
+        segment.setMap(map);
+        segment.setState(LevelSegment.State.LOADED);
+    }
+
+    /**
+     * Crea en el mundo los cuerpos estáticos y entidades de un segmento cargado.
+     */
+    private void build(LevelSegment segment) {
+        if (segment.getState() != LevelSegment.State.LOADED) return;
+        tiledManager.makeMap(segment.getMap(), segment.getOffsetX(), segment);
+        tiledManager.makeEntities(segment.getMap(), segment.getOffsetX(), segment.entityIds);
+        segment.setState(LevelSegment.State.BUILT);
+    }
+
+    /**
+     * Destruye los cuerpos estáticos y entidades de un segmento, conservando el mapa en memoria.
+     */
+    private void unbuild(LevelSegment segment) {
+        if (segment.getState() != LevelSegment.State.BUILT) return;
+        tiledManager.removeStatics(segment);
+        tiledManager.removeEntities(segment.entityIds);
+        segment.entityIds.clear();
+        segment.setState(LevelSegment.State.LOADED);
+    }
+
+    /**
+     * Libera el mapa de un segmento (desmontándolo antes si hace falta).
+     */
+    private void unload(LevelSegment segment) {
+        unbuild(segment);
+        if (segment.getState() == LevelSegment.State.UNLOADED) return;
+        if (assetManager.isLoaded(segment.getMapPath()) || segment.getState() == LevelSegment.State.LOADING) {
+            assetManager.unload(segment.getMapPath());
+        }
+        // Si se estaba cargando, sus tilesets pueden estar ya decodificados esperando al AssetManager.
+        if (assetManager.getLoader(TiledMap.class) instanceof PrefetchingTmxMapLoader loader) loader.cancel(segment.getMapPath());
+        segment.setMap(null);
+        segment.setState(LevelSegment.State.UNLOADED);
+    }
+
+    /**
+     * Mientras haya más segmentos en memoria que el presupuesto, descarga el más lejano que no sea visible.
+     */
+    private void enforceBudget(float x, float left, float right) {
+        while (true) {
+            int resident = 0;
+            LevelSegment farthest = null;
+            for (LevelSegment segment : segments) {
+                if (segment.getState() == LevelSegment.State.UNLOADED) continue;
+                resident++;
+                if (segment.overlaps(left, right)) continue;
+                if (farthest == null || segment.distanceTo(x) > farthest.distanceTo(x)) farthest = segment;
+            }
+            if (resident <= maxResidentSegments || farthest == null) return;
+            unload(farthest);
+        }
+    }
+
+    /**
+     * Libera todos los mapas del nivel y el renderizador (que no libera el Batch compartido).
+     */
+    @Override
+    public void dispose() {
+        for (LevelSegment segment : segments) {
+            segment.entityIds.clear();
+            if (segment.getState() != LevelSegment.State.UNLOADED && assetManager.isLoaded(segment.getMapPath())) {
+                assetManager.unload(segment.getMapPath());
+            }
+            if (assetManager.getLoader(TiledMap.class) instanceof PrefetchingTmxMapLoader loader) loader.cancel(segment.getMapPath());
+            segment.setMap(null);
+            segment.setState(LevelSegment.State.UNLOADED);
+        }
+        renderer.dispose();
+    }
+}
@@ -0,0 +1,75 @@
+package src.utils.managers;
+
+import com.badlogic.gdx.math.Vector2;
+import src.utils.RailSpline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * La clase `RailManager` guarda los rieles (`RailSpline`) del nivel y decide cuándo el jugador puede
+ * engancharse a uno. Los rieles se registran por propietario (el segmento del nivel que los definió)
+ * para poder eliminarlos en bloque cuando el segmento se descarga, igual que las colisiones estáticas.
+ * <p>
+ * Solo se entra a un riel por uno de sus extremos y avanzando hacia su interior, para que el jugador
+ * no se enganche a mitad de un loop al saltar cerca de él ni vuelva a entrar al salir por el final.
+ */
+public class RailManager {
+    public static final float ATTACH_DISTANCE = 0.8f; // Distancia máxima (en metros) entre el jugador y el riel.
+    public static final float ENTRY_LENGTH = 2f; // Metros desde cada extremo en los que se permite entrar.
+    public static final float MIN_ALIGNMENT = 0.7f; // Coseno mínimo entre la velocidad y la dirección del riel.
+
+    private final ArrayList<RailSpline> rails;
+    private final HashMap<Object, ArrayList<RailSpline>> byOwner;
+    private final Vector2 tangent; // Vector auxiliar para no crear objetos en cada consulta.
+
+    public RailManager() {
+        rails = new ArrayList<>();
+        byOwner = new HashMap<>();
+        tangent = new Vector2();
+    }
+
+    /**
+     * Registra un riel.
+     * @param owner Quién lo registra; se usa para eliminarlo con `removeOwner`.
+     * @param rail El riel.
+     */
+    public void add(Object owner, RailSpline rail) {
+        rails.add(rail);
+        byOwner.computeIfAbsent(owner, k -> new ArrayList<>()).add(rail);
+    }
+
+    /**
+     * Elimina todos los rieles registrados por un propietario.
+     */
+    public void removeOwner(Object owner) {
+        ArrayList<RailSpline> owned = byOwner.remove(owner);
+        if (owned != null) rails.removeAll(owned);
+    }
+
+    public void clear() {
+        rails.clear();
+        byOwner.clear();
+    }
+
+    /**
+     * Busca un riel al que el jugador pueda engancharse: que esté cerca, que el jugador esté junto a uno de
+     * sus extremos y que su velocidad apunte hacia el interior del riel con una rapidez suficiente.
+     * @param position Posición del centro del jugador en metros.
+     * @param velocity Velocidad del jugador.
+     * @param minSpeed Rapidez mínima para engancharse.
+     * @return El riel encontrado, o null si no hay ninguno.
+     */
+    public RailSpline findRail(Vector2 position, Vector2 velocity, float minSpeed) {
+        float speed = velocity.len();
+        if (speed < minSpeed) return null;
+        for (RailSpline rail : rails) {
+            float s = rail.nearest(position.x, position.y, ATTACH_DISTANCE);
+            if (s < 0) continue;
+            float alignment = rail.tangentAt(s, tangent).dot(velocity) / speed;
+            if (s <= ENTRY_LENGTH && alignment >= MIN_ALIGNMENT) return rail;
+            if (s >= rail.getLength() - ENTRY_LENGTH && alignment <= -MIN_ALIGNMENT) return rail;
+        }
+        return null;
+    }
+}
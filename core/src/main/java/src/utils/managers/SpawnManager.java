@@ -1,7 +1,7 @@
 package src.utils.managers;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
+import src.utils.log.Log;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -14,6 +14,7 @@ import java.util.Random;
  * Esto es útil para controlar dónde aparecen jugadores, enemigos u objetos en el entorno del juego.
  */
 public class SpawnManager {
+    private static final String TAG = "SpawnManager";
     private final ArrayList<Vector2> spawnPoints; // Una lista de puntos de aparición disponibles (Vector2).
     private final HashMap<Integer, Vector2> takenSpawnPoints; // Un mapa que asocia IDs de entidades con los puntos de aparición que han tomado.
     private final Random random; // Un objeto Random para seleccionar puntos de aparición aleatorios.
@@ -46,7 +47,7 @@ public class SpawnManager {
     public Vector2 takeSpawnPoint(int id) {
         // Si no hay puntos de aparición disponibles, se registra un mensaje y se retorna null.
         if (spawnPoints.isEmpty()) {
-            Gdx.app.log("SpawnManager", "No hay spawn points disponibles");
+            Log.warn(TAG, "No hay spawn points disponibles");
             return null;
         }
 
@@ -65,7 +66,7 @@ public class SpawnManager {
     public void unTakeSpawnPoint(int id) {
         // Comprueba si el ID existe en los puntos de aparición tomados.
         if (!takenSpawnPoints.containsKey(id)) {
-            Gdx.app.log("SpawnManager", "id " + id + " no encontrada");
+            Log.warn(TAG, "id {} no encontrada", id);
             return;
         }
 
@@ -0,0 +1,193 @@
+package src.utils.managers;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.utils.IntSet;
+import src.screens.game.GameScreen;
+import src.world.ActorBox2d;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+/**
+ * La clase `StaticCollisionStreamer` mantiene en el mundo Box2D solo las colisiones estáticas cercanas
+ * a algún cuerpo dinámico activo. Al cargar un mapa, cada colisión se registra en uno o varios "chunks"
+ * (rangos de X de ancho fijo) sin crear todavía su cuerpo. En cada frame se calculan los chunks que
+ * están a menos de `margin` metros de algún cuerpo dinámico activo: sus colisiones se crean la
+ * primera vez que se necesitan y se reactivan después, y las de los chunks lejanos se desactivan
+ * (un cuerpo inactivo sale del broadphase). Así el árbol del broadphase no crece con el largo del nivel.
+ */
+public class StaticCollisionStreamer {
+    public static final float CHUNK_WIDTH = 32f; // Ancho de cada chunk en metros.
+    public static final float DEFAULT_MARGIN = 24f; // Distancia (en metros) alrededor de cada cuerpo que se mantiene activa.
+
+    /**
+     * Una colisión estática registrada: cómo crearla, su rango en X y su cuerpo si ya existe.
+     */
+    private static class StaticEntry {
+        final Object owner; // Quién la registró (normalmente un LevelSegment).
+        final Supplier<ActorBox2d> factory; // Crea el actor y su cuerpo la primera vez que se necesita.
+        final int firstChunk, lastChunk; // Rango de chunks que cubre.
+        ActorBox2d actor; // Null mientras no se haya materializado.
+        int activeChunks; // Cuántos de sus chunks están activos ahora mismo.
+
+        StaticEntry(Object owner, Supplier<ActorBox2d> factory, int firstChunk, int lastChunk) {
+            this.owner = owner;
+            this.factory = factory;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+        }
+    }
+
+    private final GameScreen game;
+    private final Float margin;
+    private final HashMap<Integer, ArrayList<StaticEntry>> chunks; // Entradas indexadas por chunk.
+    private final HashMap<Object, ArrayList<StaticEntry>> byOwner; // Entradas indexadas por quien las registró.
+    private IntSet activeChunks; // Chunks activos en el frame anterior.
+    private IntSet nextActiveChunks; // Chunks activos calculados en este frame (se intercambia con el anterior).
+
+    /**
+     * Constructor de `StaticCollisionStreamer`.
+     * @param game La pantalla de juego, usada para añadir y retirar los actores estáticos.
+     * @param margin Distancia (en metros) alrededor de cada cuerpo dinámico que debe tener colisiones.
+     */
+    public StaticCollisionStreamer(GameScreen game, Float margin) {
+        this.game = game;
+        this.margin = margin;
+        chunks = new HashMap<>();
+        byOwner = new HashMap<>();
+        activeChunks = new IntSet();
+        nextActiveChunks = new IntSet();
+    }
+
+    public StaticCollisionStreamer(GameScreen game) {
+        this(game, DEFAULT_MARGIN);
+    }
+
+    /**
+     * Registra una colisión estática sin crearla todavía.
+     * @param owner Quién la registra; se usa para eliminarla en bloque con `removeOwner`.
+     * @param minX Coordenada X mínima de la colisión en metros.
+     * @param maxX Coordenada X máxima de la colisión en metros.
+     * @param factory Crea el actor (y su cuerpo) cuando la colisión se necesita por primera vez.
+     */
+    public void add(Object owner, float minX, float maxX, Supplier<ActorBox2d> factory) {
+        StaticEntry entry = new StaticEntry(owner, factory, chunkOf(minX), chunkOf(maxX));
+        for (int chunk = entry.firstChunk; chunk <= entry.lastChunk; chunk++) {
+            chunks.computeIfAbsent(chunk, k -> new ArrayList<>()).add(entry);
+            if (activeChunks.contains(chunk)) entry.activeChunks++;
+        }
+        byOwner.computeIfAbsent(owner, k -> new ArrayList<>()).add(entry);
+        if (entry.activeChunks > 0) activate(entry);
+    }
+
+    /**
+     * Destruye y olvida todas las colisiones registradas por un propietario.
+     * Debe llamarse fuera de `World.step()`.
+     * @param owner El propietario usado en `add`.
+     */
+    public void removeOwner(Object owner) {
+        ArrayList<StaticEntry> entries = byOwner.remove(owner);
+        if (entries == null) return;
+        for (StaticEntry entry : entries) {
+            for (int chunk = entry.firstChunk; chunk <= entry.lastChunk; chunk++) {
+                ArrayList<StaticEntry> list = chunks.get(chunk);
+                if (list == null) continue;
+                list.remove(entry);
+                if (list.isEmpty()) chunks.remove(chunk);
+            }
+            if (entry.actor != null) game.removeStatic(entry.actor);
+            entry.actor = null;
+        }
+    }
+
+    /**
+     * Olvida todas las colisiones registradas sin destruir sus cuerpos.
+     * Se usa después de `GameScreen.clearAll()`, que ya los destruyó.
+     */
+    public void clear() {
+        chunks.clear();
+        byOwner.clear();
+        activeChunks.clear();
+        nextActiveChunks.clear();
+    }
+
+    /**
+     * Recalcula qué chunks deben estar activos a partir de los cuerpos dinámicos activos y materializa o
+     * desactiva las colisiones afectadas. Debe llamarse fuera de `World.step()`.
+     * @param dynamicActors Las entidades del juego (cuentan todos los cuerpos dinámicos activos).
+     * @param focus Un actor que siempre mantiene activo su entorno (el jugador); puede ser null.
+     */
+    public void update(Collection<? extends ActorBox2d> dynamicActors, ActorBox2d focus) {
+        nextActiveChunks.clear();
+        if (focus != null && focus.getBody() != null) markAround(focus.getBody().getPosition().x);
+        for (ActorBox2d actor : dynamicActors) {
+            Body body = actor.getBody();
+            if (body == null || body.getType() != BodyDef.BodyType.DynamicBody) continue;
+            // También los dormidos: si se les quitara el suelo, el contacto destruido los despertaría y caerían
+            // un frame antes de que su chunk volviera a activarse, con el cuerpo ya dentro de la colisión.
+            if (!body.isActive()) continue;
+            markAround(body.getPosition().x);
+        }
+
+        // Chunks que dejan de estar activos.
+        IntSet.IntSetIterator iterator = activeChunks.iterator();
+        while (iterator.hasNext) {
+            int chunk = iterator.next();
+            if (nextActiveChunks.contains(chunk)) continue;
+            ArrayList<StaticEntry> entries = chunks.get(chunk);
+            if (entries == null) continue;
+            for (StaticEntry entry : entries) {
+                if (--entry.activeChunks == 0) deactivate(entry);
+            }
+        }
+        // Chunks que pasan a estar activos.
+        iterator = nextActiveChunks.iterator();
+        while (iterator.hasNext) {
+            int chunk = iterator.next();
+            if (activeChunks.contains(chunk)) continue;
+            ArrayList<StaticEntry> entries = chunks.get(chunk);
+            if (entries == null) continue;
+            for (StaticEntry entry : entries) {
+                if (entry.activeChunks++ == 0) activate(entry);
+            }
+        }
+
+        IntSet swap = activeChunks;
+        activeChunks = nextActiveChunks;
+        nextActiveChunks = swap;
+    }
+
+    /**
+     * Número de chunks activos en este momento (útil para depuración).
+     */
+    public Integer getActiveChunkCount() {
+        return activeChunks.size;
+    }
+
+    private void markAround(float x) {
+        int first = chunkOf(x - margin);
+        int last = chunkOf(x + margin);
+        for (int chunk = first; chunk <= last; chunk++) nextActiveChunks.add(chunk);
+    }
+
+    private void activate(StaticEntry entry) {
+        if (entry.actor == null) {
+            entry.actor = entry.factory.get();
+            game.addStatic(entry.actor);
+            return;
+        }
+        entry.actor.getBody().setActive(true);
+    }
+
+    private void deactivate(StaticEntry entry) {
+        if (entry.actor == null) return;
+        entry.actor.getBody().setActive(false);
+    }
+
+    private static int chunkOf(float x) {
+        return (int) Math.floor(x / CHUNK_WIDTH);
+    }
+}
@@ -1,31 +1,40 @@
 package src.utils.managers;
 
+import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.MapObjects;
 import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.PolylineMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
 import src.screens.game.GameScreen;
-import src.utils.constants.ConsoleColor;
+import src.utils.GreedyMesher;
+import src.utils.RailSpline;
+import src.utils.log.Log;
+import src.utils.render.ParallaxLayer;
 
 import java.util.ArrayList;
+import java.util.function.Supplier;
 
 import static src.utils.constants.Constants.PIXELS_IN_METER;
+import src.world.ActorBox2d;
+import src.world.FloorEdge;
 import src.world.FloorPoly;
+import src.world.entities.Entity;
 
 /**
- * La clase `TiledManager` se encarga de cargar y parsear los datos de un mapa Tiled (.tmx).
+ * La clase `TiledManager` se encarga de parsear los datos de un mapa Tiled (.tmx) ya cargado.
  * Extrae objetos del mapa como entidades estáticas, entidades dinámicas, puntos de aparición
  * y puntos de aparición de jugadores, y los integra en el `GameScreen` del juego.
  * Facilita la configuración del mundo del juego a partir de un diseño de mapa creado en Tiled.
  */
 public class TiledManager {
+    private static final String TAG = "TiledManager";
     private final GameScreen game; // Referencia a la pantalla del juego para añadir elementos.
-    private TiledMap tiledmap; // El objeto TiledMap cargado.
-    private Integer tiledSize; // El tamaño en píxeles de un tile en el mapa.
+    private Integer tiledSize; // El tamaño en píxeles de un tile en el mapa que se está procesando.
+    private Boolean collisionFromTiles; // Si es true, el suelo se genera a partir de las propiedades de los tiles.
 
     /**
      * Constructor para el `TiledManager`.
@@ -33,18 +42,32 @@ public class TiledManager {
      */
     public TiledManager(GameScreen game) {
         this.game = game;
+        collisionFromTiles = false;
     }
 
     /**
-     * Carga un mapa Tiled desde la ruta especificada y configura el renderizador.
-     * @param map La ruta al archivo .tmx del mapa.
-     * @return Un `OrthogonalTiledMapRenderer` configurado para dibujar el mapa.
+     * Activa o desactiva la generación de colisiones a partir de los tiles de la capa "suelo".
+     * Un mapa puede forzar el valor con la propiedad de mapa booleana "collisionFromTiles".
+     * @param collisionFromTiles true para derivar el suelo de las propiedades "solid"/"slope" del tileset,
+     *                           false para usar los polígonos dibujados a mano.
      */
-    public OrthogonalTiledMapRenderer setupMap(String map) {
-        tiledmap = new TmxMapLoader().load(map); // Carga el archivo .tmx en un objeto TiledMap.
-        // Obtiene el tamaño del tile (ancho/alto) de las propiedades del mapa.
-        tiledSize = tiledmap.getProperties().get("tilewidth", Integer.class);
+    public void setCollisionFromTiles(Boolean collisionFromTiles) {
+        this.collisionFromTiles = collisionFromTiles;
+    }
 
+    public Boolean isCollisionFromTiles() {
+        return collisionFromTiles;
+    }
+
+    /**
+     * Prepara un mapa Tiled recién cargado para dibujarse: fuerza el filtro Nearest en todos sus tilesets.
+     * @param tiledmap El mapa cargado (normalmente por el `AssetManager` a través de `LevelStreamer`).
+     */
+    public void prepareMap(TiledMap tiledmap) {
+        // Las capas de fondo con parallax las dibuja `ParallaxBackground`, no el renderizador de tiles.
+        for (MapLayer layer : tiledmap.getLayers()) {
+            if (layer instanceof TiledMapTileLayer && layer.getProperties().containsKey("parallax")) layer.setVisible(false);
+        }
         // Fuerza el filtro de textura a Nearest para todos los tilesets
         for (com.badlogic.gdx.maps.tiled.TiledMapTileSet tileset : tiledmap.getTileSets()) {
             for (com.badlogic.gdx.maps.tiled.TiledMapTile tile : tileset) {
@@ -55,17 +78,16 @@ public class TiledManager {
                 }
             }
         }
-
-        // Retorna un renderizador que escala el mapa sin escalado (1f)
-        return new OrthogonalTiledMapRenderer(tiledmap, 1f);
     }
 
     /**
      * Parsea los objetos de una capa del mapa y los convierte en entidades estáticas del juego.
      * Soporta tanto objetos de polígono (para colisiones de suelo complejas) como objetos de rectángulo.
      * @param objects Los objetos de una capa del mapa (MapObjects).
+     * @param offsetX Desplazamiento horizontal (en metros) del segmento al que pertenece el mapa.
+     * @param owner Propietario de las colisiones (el segmento), para poder eliminarlas al descargarlo.
      */
-    public void parsedStaticMap(MapObjects objects) {
+    public void parsedStaticMap(MapObjects objects, float offsetX, Object owner) {
         for (MapObject object : objects) {
             // Si el objeto es un polígono (definido en Tiled), se procesa como un `FloorPoly`.
             if (object instanceof PolygonMapObject polygonObject) {
@@ -90,22 +112,17 @@ public class TiledManager {
                         break;
                     }
                 }
-                System.out.print("[DEBUG] Vértices del polígono: ");
-                for (int i = 0; i < numVerts; i++) {
-                    System.out.print("(" + vertices[2*i]/tiledSize + "," + vertices[2*i+1]/tiledSize + ") ");
-                }
-                System.out.println();
                 if (!valido) continue;
-                float x = 0;
+                float x = offsetX;
                 float y = 0;
                 // Convertir los vértices de píxeles a unidades de mundo
                 Vector2[] verticesVector = new Vector2[numVerts];
                 for (int i = 0; i < vertices.length; i+=2) {
                     verticesVector[i/2] = new Vector2(vertices[i]/tiledSize, vertices[i+1]/tiledSize);
                 }
-                // Crear y agregar el FloorPoly
-                FloorPoly floorPoly = new FloorPoly(game.getWorld(), verticesVector, x, y);
-                game.addActor(floorPoly);
+                if (Log.isEnabled(Log.Level.DEBUG, TAG)) Log.debug(TAG, "Vértices del polígono: {}", describeVertices(verticesVector));
+                // Registrar el FloorPoly; se crea cuando algún cuerpo dinámico se acerque
+                addStatic(owner, verticesVector, x, () -> new FloorPoly(game.getWorld(), verticesVector, x, y));
                 continue;
             }
             // Si es un rectángulo (tiene width y height), también lo agregamos como FloorPoly
@@ -115,7 +132,7 @@ public class TiledManager {
             Float H = (Float) object.getProperties().get("height");
             if (X != null && Y != null && W != null && H != null) {
                 if (W <= 0 || H <= 0) {
-                    System.out.println("[WARN] Rectángulo ignorado por ancho o alto <= 0: (" + X + "," + Y + "," + W + "," + H + ")");
+                    Log.warn(TAG, "Rectángulo ignorado por ancho o alto <= 0: ({}, {}, {}, {})", X, Y, W, H);
                     continue;
                 }
                 // Crear los vértices del rectángulo
@@ -125,13 +142,10 @@ public class TiledManager {
                     new Vector2(W/tiledSize, H/tiledSize),
                     new Vector2(0, H/tiledSize)
                 };
-                System.out.print("[DEBUG] Vértices del rectángulo: ");
-                for (Vector2 v : rectVerts) {
-                    System.out.print("(" + v.x + "," + v.y + ") ");
-                }
-                System.out.println();
-                FloorPoly floorPoly = new FloorPoly(game.getWorld(), rectVerts, X/tiledSize, Y/tiledSize);
-                game.addActor(floorPoly);
+                if (Log.isEnabled(Log.Level.DEBUG, TAG)) Log.debug(TAG, "Vértices del rectángulo: {}", describeVertices(rectVerts));
+                float rectX = offsetX + X/tiledSize;
+                float rectY = Y/tiledSize;
+                addStatic(owner, rectVerts, rectX, () -> new FloorPoly(game.getWorld(), rectVerts, rectX, rectY));
             }
         }
     }
@@ -139,8 +153,10 @@ public class TiledManager {
     /**
      * Parsea los objetos de una capa del mapa y los convierte en entidades dinámicas del juego.
      * @param objects Los objetos de una capa del mapa (MapObjects).
+     * @param offsetX Desplazamiento horizontal (en metros) del segmento al que pertenece el mapa.
+     * @param ids Lista donde se registran los IDs de las entidades creadas.
      */
-    public void parsedEntityMap(MapObjects objects) {
+    public void parsedEntityMap(MapObjects objects, float offsetX, ArrayList<Integer> ids) {
         // Se crea un ArrayList temporal para evitar ConcurrentModificationException si se modificara el objeto original.
         ArrayList<MapObject> objectArray = new ArrayList<>();
         for (MapObject object : objects) {
@@ -149,15 +165,25 @@ public class TiledManager {
         for (MapObject object : objectArray) {
             // Obtiene el tipo de entidad y su posición, escalando a unidades de mundo.
             String type = object.getProperties().get("type", String.class);
-            float X = object.getProperties().get("x", Float.class) / tiledSize;
+            float X = offsetX + object.getProperties().get("x", Float.class) / tiledSize;
             float Y = object.getProperties().get("y", Float.class )/ tiledSize;
 
-            try{
-                // Intenta crear y añadir una entidad usando el tipo y la posición. Se pasa (0,0) para velocidad inicial.
-            }catch (IllegalArgumentException e) {
+            if (type == null) {
+                Log.warn(TAG, "Objeto de entidad sin tipo en ({}, {})", X, Y);
+                continue;
+            }
+            Entity.Type entityType;
+            try {
+                entityType = Entity.Type.valueOf(type);
+            } catch (IllegalArgumentException e) {
                 // Si el tipo de entidad no es válido, imprime un error.
-                System.out.println(ConsoleColor.GRAY + "Tipo de entidad " + type + " no encontrado" + ConsoleColor.RESET);
+                Log.warn(TAG, "Tipo de entidad {} no encontrado", type);
+                continue;
             }
+            // Crea y añade la entidad en su posición. Se pasa (0,0) para velocidad inicial.
+            Integer id = game.main.getIds();
+            game.addEntityNoPacket(entityType, new Vector2(X, Y), new Vector2(0, 0), id, false);
+            ids.add(id);
         }
     }
 
@@ -201,37 +227,232 @@ public class TiledManager {
         }
     }
 
-    /**
-     * Libera los recursos del mapa Tiled.
-     */
-    public void dispose() {
-        tiledmap.dispose();
-    }
-
     /**
      * Procesa las capas del mapa que contienen la información principal del mundo del juego:
      * puntos de aparición del jugador, estáticos y puntos de aparición genéricos.
+     * @param tiledmap El mapa del segmento a procesar.
+     * @param offsetX Desplazamiento horizontal (en metros) del segmento dentro del nivel.
+     * @param owner Propietario de las colisiones (el segmento), para poder eliminarlas al descargarlo.
      */
-    public void makeMap() {
+    public void makeMap(TiledMap tiledmap, float offsetX, Object owner) {
+        tiledSize = tiledmap.getProperties().get("tilewidth", Integer.class);
         // parsedPlayer(tiledmap.getLayers().get("playerSpawn").getObjects()); // Procesa la capa de aparición del jugador.
-        parsedStaticMap(tiledmap.getLayers().get("colisiones_suelo").getObjects()); // Procesa la capa de colisiones de suelo.
-        parsedStaticMap(tiledmap.getLayers().get("colisiones_techo_y_puas_del_tunel").getObjects());
-        parsedStaticMap(tiledmap.getLayers().get("colisiones_curvas").getObjects());// Procesa la capa de colisiones de techo y puas.
+        Boolean fromTiles = tiledmap.getProperties().get("collisionFromTiles", collisionFromTiles, Boolean.class);
+        if (fromTiles && tiledmap.getLayers().get("suelo") instanceof TiledMapTileLayer suelo) {
+            // El suelo y las curvas salen de los tiles; las capas dibujadas a mano se ignoran.
+            parsedTileCollision(suelo, offsetX, owner);
+        } else {
+            parsedStaticLayer(tiledmap, "colisiones_suelo", offsetX, owner); // Procesa la capa de colisiones de suelo.
+            parsedStaticLayer(tiledmap, "colisiones_curvas", offsetX, owner);// Procesa la capa de colisiones de curvas.
+        }
+        parsedStaticLayer(tiledmap, "colisiones_techo_y_puas_del_tunel", offsetX, owner); // Procesa la capa de colisiones de techo y puas.
+        MapLayer rieles = tiledmap.getLayers().get("rieles");
+        if (rieles != null) parsedRails(rieles.getObjects(), offsetX, owner); // Procesa los rieles de loops y curvas.
+        parsedBackdrops(tiledmap, offsetX, owner); // Procesa las capas de fondo con parallax.
         // parsedSpawnMap(tiledmap.getLayers().get("spawn").getObjects()); // Procesa la capa de puntos de aparición.
     }
 
     /**
      * Procesa las capas del mapa que contienen entidades dinámicas (ej. enemigos, otros objetos interactivos).
+     * Las capas que no existan en el mapa se ignoran.
+     * @param tiledmap El mapa del segmento a procesar.
+     * @param offsetX Desplazamiento horizontal (en metros) del segmento dentro del nivel.
+     * @param ids Lista donde se registran los IDs de las entidades creadas.
+     */
+    public void makeEntities(TiledMap tiledmap, float offsetX, ArrayList<Integer> ids) {
+        tiledSize = tiledmap.getProperties().get("tilewidth", Integer.class);
+        MapLayer entity = tiledmap.getLayers().get("entity");
+        if (entity != null) parsedEntityMap(entity.getObjects(), offsetX, ids); // Procesa la capa de entidades generales.
+        MapLayer enemy = tiledmap.getLayers().get("enemy");
+        if (enemy != null) parsedEntityMap(enemy.getObjects(), offsetX, ids); // Procesa la capa de enemigos.
+    }
+
+    /**
+     * Destruye las colisiones estáticas y los rieles registrados por `makeMap` y los retira del juego.
+     * @param owner El propietario usado en `makeMap`.
+     */
+    public void removeStatics(Object owner) {
+        game.getStaticCollisionStreamer().removeOwner(owner);
+        game.getRailManager().removeOwner(owner);
+        game.getParallaxBackground().removeOwner(owner);
+    }
+
+    /**
+     * Olvida todas las colisiones estáticas y rieles registrados, sin destruir sus cuerpos.
+     * Se usa al reiniciar el nivel, después de `GameScreen.clearAll()`.
+     */
+    public void clearStatics() {
+        game.getStaticCollisionStreamer().clear();
+        game.getRailManager().clear();
+        game.getParallaxBackground().clear();
+    }
+
+    /**
+     * Convierte las capas de tiles con la propiedad `parallax` (p. ej. "fondo" y "fondo cueva") en fondos
+     * `ParallaxLayer`, que se dibujan con un quad por capa en lugar de tile a tile.
+     * @param tiledmap El mapa del segmento.
+     * @param offsetX Desplazamiento horizontal (en metros) del segmento dentro del nivel.
+     * @param owner Propietario de los fondos (el segmento).
+     */
+    public void parsedBackdrops(TiledMap tiledmap, float offsetX, Object owner) {
+        for (MapLayer layer : tiledmap.getLayers()) {
+            if (!(layer instanceof TiledMapTileLayer tileLayer) || !layer.getProperties().containsKey("parallax")) continue;
+            ParallaxLayer backdrop = ParallaxLayer.fromTileLayer(tileLayer, offsetX * tiledSize, game.main.getBatch());
+            if (backdrop == null) continue;
+            game.getParallaxBackground().add(owner, backdrop);
+            Log.debug(TAG, "Fondo con parallax: {}", layer.getName());
+        }
+    }
+
+    /**
+     * Convierte las polilíneas de la capa "rieles" en rieles (`RailSpline`). Cada polilínea marca el recorrido
+     * del centro del jugador por un loop o una curva y se dibuja en el sentido de avance, con el suelo a su
+     * derecha. Las colisiones de esa zona pueden quitarse de "colisiones_curvas": el jugador rápido recorre
+     * el riel sin contactos y, si va lento, no llega a engancharse.
+     * @param objects Los objetos de la capa "rieles".
+     * @param offsetX Desplazamiento horizontal (en metros) del segmento dentro del nivel.
+     * @param owner Propietario de los rieles (el segmento), para poder eliminarlos al descargarlo.
+     */
+    public void parsedRails(MapObjects objects, float offsetX, Object owner) {
+        for (MapObject object : objects) {
+            if (!(object instanceof PolylineMapObject polylineObject)) continue;
+            float[] vertices = polylineObject.getPolyline().getTransformedVertices();
+            if (vertices.length < 4) continue;
+            Vector2[] points = new Vector2[vertices.length / 2];
+            for (int i = 0; i < vertices.length; i += 2) {
+                points[i/2] = new Vector2(offsetX + vertices[i]/tiledSize, vertices[i+1]/tiledSize);
+            }
+            game.getRailManager().add(owner, new RailSpline(points));
+        }
+    }
+
+    /**
+     * Elimina del juego las entidades creadas por `makeEntities` que sigan vivas.
+     * @param ids Los IDs de las entidades a eliminar.
+     */
+    public void removeEntities(ArrayList<Integer> ids) {
+        for (Integer id : ids) {
+            if (game.getEntity(id) != null) game.removeEntityNoPacket(id);
+        }
+    }
+
+    /**
+     * Genera las colisiones de una capa de tiles a partir de las propiedades de su tileset.
+     * Los tiles con la propiedad booleana "solid" se agrupan en el menor número de rectángulos posible
+     * (ver `GreedyMesher`). Los tiles con la propiedad "slope" ("izquierda,derecha", alturas entre 0 y 1
+     * relativas al tile) se convierten en segmentos, y las pendientes consecutivas de una misma fila
+     * se unen en una sola cadena.
+     * @param layer La capa de tiles (normalmente "suelo").
+     * @param offsetX Desplazamiento horizontal (en metros) del segmento dentro del nivel.
+     * @param owner Propietario de las colisiones (el segmento), para poder eliminarlas al descargarlo.
+     */
+    public void parsedTileCollision(TiledMapTileLayer layer, float offsetX, Object owner) {
+        int width = layer.getWidth();
+        int height = layer.getHeight();
+        boolean[][] solid = new boolean[width][height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell == null || cell.getTile() == null || getSlope(cell) != null) continue;
+                solid[x][y] = Boolean.TRUE.equals(cell.getTile().getProperties().get("solid", Boolean.class));
+            }
+        }
+
+        // Rectángulos fusionados para los bloques sólidos.
+        for (int[] rect : GreedyMesher.mesh(solid, width, height)) {
+            Vector2[] rectVerts = new Vector2[] {
+                new Vector2(0, 0),
+                new Vector2(rect[2], 0),
+                new Vector2(rect[2], rect[3]),
+                new Vector2(0, rect[3])
+            };
+            float rectX = offsetX + rect[0];
+            float rectY = rect[1];
+            addStatic(owner, rectVerts, rectX, () -> new FloorPoly(game.getWorld(), rectVerts, rectX, rectY));
+        }
+
+        // Cadenas de segmentos para las pendientes.
+        ArrayList<Vector2> chain = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                float[] slope = getSlope(layer.getCell(x, y));
+                if (slope == null) {
+                    addSlopeChain(chain, offsetX, owner);
+                    continue;
+                }
+                Vector2 start = new Vector2(x, y + slope[0]);
+                Vector2 end = new Vector2(x + 1, y + slope[1]);
+                // Si la pendiente no continúa a la anterior, se cierra la cadena actual.
+                if (!chain.isEmpty() && !chain.get(chain.size() - 1).epsilonEquals(start, 1e-3f)) addSlopeChain(chain, offsetX, owner);
+                if (chain.isEmpty()) chain.add(start);
+                chain.add(end);
+            }
+            addSlopeChain(chain, offsetX, owner);
+        }
+    }
+
+    /**
+     * Lee la propiedad "slope" de un tile ("izquierda,derecha"), teniendo en cuenta el volteo horizontal de la celda.
+     * @return Las alturas izquierda y derecha (0 a 1), o null si el tile no es una pendiente.
+     */
+    private float[] getSlope(TiledMapTileLayer.Cell cell) {
+        if (cell == null || cell.getTile() == null) return null;
+        String slope = cell.getTile().getProperties().get("slope", String.class);
+        if (slope == null) return null;
+        String[] heights = slope.split(",");
+        if (heights.length != 2) return null;
+        try {
+            float left = Float.parseFloat(heights[0].trim());
+            float right = Float.parseFloat(heights[1].trim());
+            return cell.getFlipHorizontally() ? new float[]{right, left} : new float[]{left, right};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Crea un `FloorEdge` con los puntos acumulados de una cadena de pendientes y la vacía.
+     */
+    private void addSlopeChain(ArrayList<Vector2> chain, float offsetX, Object owner) {
+        if (chain.size() >= 2) {
+            Vector2[] chainVerts = chain.toArray(new Vector2[0]);
+            addStatic(owner, chainVerts, offsetX, () -> new FloorEdge(game.getWorld(), chainVerts, offsetX, 0));
+        }
+        chain.clear();
+    }
+
+    /**
+     * Registra una colisión estática en el `StaticCollisionStreamer` del juego, calculando su rango en X.
+     * @param owner Propietario de la colisión.
+     * @param vertices Vértices locales de la colisión (en metros).
+     * @param x Posición X del cuerpo en metros.
+     * @param factory Crea el actor cuando la colisión se necesita.
+     */
+    private void addStatic(Object owner, Vector2[] vertices, float x, Supplier<ActorBox2d> factory) {
+        float minX = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        for (Vector2 vertex : vertices) {
+            minX = Math.min(minX, vertex.x);
+            maxX = Math.max(maxX, vertex.x);
+        }
+        game.getStaticCollisionStreamer().add(owner, x + minX, x + maxX, factory);
+    }
+
+    /**
+     * Texto con los vértices de una colisión, solo para los mensajes de depuración.
      */
-    public void makeEntities() {
-        parsedEntityMap(tiledmap.getLayers().get("entity").getObjects()); // Procesa la capa de entidades generales.
-        parsedEntityMap(tiledmap.getLayers().get("enemy").getObjects()); // Procesa la capa de enemigos (aunque duplicado en makeEnemy).
+    private static String describeVertices(Vector2[] vertices) {
+        StringBuilder text = new StringBuilder();
+        for (Vector2 vertex : vertices) text.append('(').append(vertex.x).append(',').append(vertex.y).append(") ");
+        return text.toString();
     }
 
     /**
-     * Procesa específicamente la capa del mapa que contiene entidades enemigas.
+     * Procesa una capa de colisiones si existe en el mapa.
      */
-    public void makeEnemy() {
-        parsedEntityMap(tiledmap.getLayers().get("enemy").getObjects()); // Procesa la capa de enemigos.
+    private void parsedStaticLayer(TiledMap tiledmap, String layerName, float offsetX, Object owner) {
+        MapLayer layer = tiledmap.getLayers().get(layerName);
+        if (layer == null) return;
+        parsedStaticMap(layer.getObjects(), offsetX, owner);
     }
 }
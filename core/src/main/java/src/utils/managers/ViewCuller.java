@@ -0,0 +1,166 @@
+package src.utils.managers;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import src.world.ActorBox2d;
+
+import static src.utils.constants.Constants.PIXELS_IN_METER;
+
+/**
+ * La clase `ViewCuller` calcula qué actores del mundo están dentro de la vista de la cámara (`getVisible`). El
+ * Stage del mundo no se dibuja: `GameScreen` solo pone en su `RenderQueue` los sprites de estos actores, así que
+ * los que quedan fuera de la vista no preparan sus sprites ni llegan al Batch.
+ * <p>
+ * Los actores se guardan en un índice espacial: columnas de `CELL_SIZE` píxeles según la X de su cuerpo.
+ * En cada frame solo se reubican los cuerpos no estáticos que cambiaron de columna, y solo se examinan los
+ * actores de las columnas que tocan la vista (ampliada con `MARGIN`), así que el coste depende de lo visible
+ * y no del nivel.
+ */
+public class ViewCuller {
+    public static final int CELL_SIZE = 256; // Ancho de cada columna del índice, en píxeles.
+    public static final float MARGIN = 64f; // Margen (en píxeles) alrededor de la vista que se sigue dibujando.
+    private static final float MAX_HALF_WIDTH = 128f; // Medio ancho máximo de un actor (p. ej. Eggman), en píxeles.
+
+    private final Array<ActorBox2d> tracked; // Todos los actores registrados.
+    private final IntMap<Array<ActorBox2d>> cells; // Columna -> actores cuyo centro está en ella.
+    private final ObjectIntMap<ActorBox2d> cellOf; // Actor -> columna en la que está registrado.
+    private ObjectSet<ActorBox2d> visible; // Actores visibles en el frame anterior.
+    private ObjectSet<ActorBox2d> nextVisible; // Actores visibles calculados en este frame.
+
+    public ViewCuller() {
+        tracked = new Array<>(false, 64);
+        cells = new IntMap<>();
+        cellOf = new ObjectIntMap<>();
+        visible = new ObjectSet<>();
+        nextVisible = new ObjectSet<>();
+    }
+
+    /**
+     * Registra un actor. No está en `getVisible` hasta el siguiente `update`, que decide si se ve.
+     * @param actor Actor con cuerpo Box2D que se dibuja en el mundo.
+     */
+    public void add(ActorBox2d actor) {
+        if (actor.getBody() == null || cellOf.containsKey(actor)) return;
+        tracked.add(actor);
+        insert(actor, cellAt(centerX(actor)));
+    }
+
+    /**
+     * Deja de controlar un actor y lo quita de `getVisible`.
+     */
+    public void remove(ActorBox2d actor) {
+        if (!cellOf.containsKey(actor)) return;
+        tracked.removeValue(actor, true);
+        removeFromCell(actor, cellOf.remove(actor, 0));
+        visible.remove(actor);
+    }
+
+    /**
+     * Olvida todos los actores registrados (se usa al reiniciar la partida, cuando el Stage se vacía).
+     */
+    public void clear() {
+        tracked.clear();
+        cells.clear();
+        cellOf.clear();
+        visible.clear();
+        nextVisible.clear();
+    }
+
+    /**
+     * Recalcula qué actores se ven con la cámara actual. Debe llamarse después de `camera.update()`
+     * y antes de llenar la `RenderQueue` con `getVisible`.
+     * @param camera La cámara del mundo (en píxeles).
+     */
+    public void update(OrthographicCamera camera) {
+        // Reubica los cuerpos que pueden moverse y cambiaron de columna.
+        for (int i = 0; i < tracked.size; i++) {
+            ActorBox2d actor = tracked.get(i);
+            Body body = actor.getBody();
+            if (body == null || body.getType() == BodyDef.BodyType.StaticBody) continue;
+            int cell = cellAt(centerX(actor));
+            int old = cellOf.get(actor, cell);
+            if (old == cell) continue;
+            removeFromCell(actor, old);
+            insert(actor, cell);
+        }
+
+        float halfWidth = camera.viewportWidth * camera.zoom / 2 + MARGIN;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2 + MARGIN;
+        float left = camera.position.x - halfWidth;
+        float right = camera.position.x + halfWidth;
+        float bottom = camera.position.y - halfHeight;
+        float top = camera.position.y + halfHeight;
+
+        nextVisible.clear();
+        int firstCell = cellAt(left - MAX_HALF_WIDTH);
+        int lastCell = cellAt(right + MAX_HALF_WIDTH);
+        for (int cell = firstCell; cell <= lastCell; cell++) {
+            Array<ActorBox2d> actors = cells.get(cell);
+            if (actors == null) continue;
+            for (int i = 0; i < actors.size; i++) {
+                ActorBox2d actor = actors.get(i);
+                if (overlaps(actor, left, right, bottom, top)) nextVisible.add(actor);
+            }
+        }
+
+        ObjectSet<ActorBox2d> swap = visible;
+        visible = nextVisible;
+        nextVisible = swap;
+    }
+
+    /**
+     * Actores visibles según el último `update`. No debe modificarse.
+     */
+    public ObjectSet<ActorBox2d> getVisible() {
+        return visible;
+    }
+
+    /**
+     * Número de actores visibles en el último `update` (útil para depuración).
+     */
+    public Integer getVisibleCount() {
+        return visible.size;
+    }
+
+    private void insert(ActorBox2d actor, int cell) {
+        Array<ActorBox2d> actors = cells.get(cell);
+        if (actors == null) {
+            actors = new Array<>(false, 16);
+            cells.put(cell, actors);
+        }
+        actors.add(actor);
+        cellOf.put(actor, cell);
+    }
+
+    private void removeFromCell(ActorBox2d actor, int cell) {
+        Array<ActorBox2d> actors = cells.get(cell);
+        if (actors != null) actors.removeValue(actor, true);
+    }
+
+    /**
+     * Comprueba si el rectángulo del actor (centrado en su cuerpo) toca el área dada. Se usa la posición
+     * del cuerpo y no la del Actor porque esta solo se actualiza al dibujar.
+     */
+    private static boolean overlaps(ActorBox2d actor, float left, float right, float bottom, float top) {
+        Body body = actor.getBody();
+        if (body == null) return false;
+        float x = body.getPosition().x * PIXELS_IN_METER;
+        float y = body.getPosition().y * PIXELS_IN_METER;
+        float halfWidth = actor.getWidth() / 2;
+        float halfHeight = actor.getHeight() / 2;
+        return x + halfWidth >= left && x - halfWidth <= right && y + halfHeight >= bottom && y - halfHeight <= top;
+    }
+
+    private static float centerX(ActorBox2d actor) {
+        return actor.getBody().getPosition().x * PIXELS_IN_METER;
+    }
+
+    private static int cellAt(float x) {
+        return (int) Math.floor(x / CELL_SIZE);
+    }
+}
@@ -0,0 +1,187 @@
+package src.utils.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * La clase `ParallaxBackground` dibuja los fondos del nivel (`ParallaxLayer`) como un solo quad por capa que
+ * cubre la parte visible de la capa. Las coordenadas de textura se calculan con la cámara y el factor de
+ * parallax de la capa, y el shader las repite (`fract`) y aplica la máscara de la capa. El coste es una
+ * llamada de dibujo por capa, sin importar el tamaño del nivel.
+ * <p>
+ * Las capas se registran con un propietario (el segmento del nivel) para poder quitarlas al descargarlo,
+ * igual que las colisiones y los rieles.
+ */
+public class ParallaxBackground implements Disposable {
+    private static final String VERTEX_SHADER = ""
+        + "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "varying vec2 v_world;\n"
+        + "void main() {\n"
+        + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "    v_color.a = v_color.a * (255.0 / 254.0);\n"
+        + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "    v_world = " + ShaderProgram.POSITION_ATTRIBUTE + ".xy;\n"
+        + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    // Las coordenadas del mundo llegan a miles de píxeles: se pide precisión alta si la GPU la tiene.
+    private static final String FRAGMENT_SHADER = ""
+        + "#ifdef GL_ES\n"
+        + "#ifdef GL_FRAGMENT_PRECISION_HIGH\n"
+        + "precision highp float;\n"
+        + "#else\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "#endif\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "varying vec2 v_world;\n"
+        + "uniform sampler2D u_texture;\n"
+        + "uniform sampler2D u_mask;\n"
+        + "uniform vec2 u_maskOrigin;\n"
+        + "uniform vec2 u_maskSize;\n"
+        + "uniform float u_repeatY;\n"
+        + "void main() {\n"
+        + "    if (texture2D(u_mask, (v_world - u_maskOrigin) / u_maskSize).a < 0.5) discard;\n"
+        + "    float v = mix(clamp(v_texCoords.y, 0.0, 1.0), fract(v_texCoords.y), u_repeatY);\n"
+        + "    gl_FragColor = v_color * texture2D(u_texture, vec2(fract(v_texCoords.x), v));\n"
+        + "}\n";
+
+    private static final int MASK_UNIT = 1; // Unidad de textura de la máscara (la 0 es la del Batch).
+
+    private final ShaderProgram shader;
+    private final Array<ParallaxLayer> layers; // En orden de dibujo (el de las capas en el mapa).
+    private final ObjectMap<Object, Array<ParallaxLayer>> byOwner;
+    private final float[] vertices;
+    private final float white;
+
+    public ParallaxBackground() {
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) throw new GdxRuntimeException("No se pudo compilar el shader de parallax: " + shader.getLog());
+        layers = new Array<>();
+        byOwner = new ObjectMap<>();
+        vertices = new float[20];
+        white = Color.WHITE.toFloatBits();
+    }
+
+    /**
+     * Registra una capa de fondo.
+     * @param owner Propietario (el segmento del nivel).
+     * @param layer La capa.
+     */
+    public void add(Object owner, ParallaxLayer layer) {
+        layers.add(layer);
+        Array<ParallaxLayer> owned = byOwner.get(owner);
+        if (owned == null) {
+            owned = new Array<>();
+            byOwner.put(owner, owned);
+        }
+        owned.add(layer);
+    }
+
+    /**
+     * Quita y libera las capas de un propietario.
+     */
+    public void removeOwner(Object owner) {
+        Array<ParallaxLayer> owned = byOwner.remove(owner);
+        if (owned == null) return;
+        for (ParallaxLayer layer : owned) {
+            layers.removeValue(layer, true);
+            layer.dispose();
+        }
+    }
+
+    /**
+     * Quita y libera todas las capas.
+     */
+    public void clear() {
+        for (ParallaxLayer layer : layers) layer.dispose();
+        layers.clear();
+        byOwner.clear();
+    }
+
+    /**
+     * Dibuja las capas visibles. Debe llamarse entre `begin` y `end` del Batch, antes de dibujar los tiles.
+     * El shader de parallax solo se usa durante esta llamada: al terminar, el Batch vuelve al shader por defecto.
+     * @param camera La cámara del mundo (en píxeles).
+     * @param batch El Batch con el que dibujar.
+     */
+    public void render(OrthographicCamera camera, Batch batch) {
+        if (layers.size == 0) return;
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+        float viewLeft = camera.position.x - viewWidth / 2;
+        float viewBottom = camera.position.y - viewHeight / 2;
+
+        batch.setShader(shader);
+        batch.setProjectionMatrix(camera.combined);
+        for (ParallaxLayer layer : layers) {
+            float left = Math.max(viewLeft, layer.bounds.x);
+            float right = Math.min(viewLeft + viewWidth, layer.bounds.x + layer.bounds.width);
+            float bottom = Math.max(viewBottom, layer.bounds.y);
+            float top = Math.min(viewBottom + viewHeight, layer.bounds.y + layer.bounds.height);
+            if (left >= right || bottom >= top) continue;
+
+            batch.flush(); // La capa anterior se dibuja con sus propios uniforms.
+            layer.mask.bind(MASK_UNIT);
+            Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+            shader.setUniformi("u_mask", MASK_UNIT);
+            shader.setUniformf("u_maskOrigin", layer.area.x, layer.area.y);
+            shader.setUniformf("u_maskSize", layer.area.width, layer.area.height);
+            shader.setUniformf("u_repeatY", layer.repeatY ? 1f : 0f);
+            writeQuad(layer, camera, left, bottom, right, top);
+            batch.draw(layer.texture, vertices, 0, vertices.length);
+        }
+        batch.setShader(null); // Dibuja la última capa y vuelve al shader por defecto.
+    }
+
+    /**
+     * Escribe el quad de la capa. Un punto del mundo `p` se ve en la capa en `p - cámara * (1 - factor)`;
+     * de ahí salen las UV, que pasan de 1 donde la imagen se repite.
+     */
+    private void writeQuad(ParallaxLayer layer, OrthographicCamera camera, float left, float bottom, float right, float top) {
+        float imageWidth = layer.texture.getWidth() * layer.scale;
+        float imageHeight = layer.texture.getHeight() * layer.scale;
+        // Con la cámara en el origen, el patrón empieza donde empiezan los tiles de la capa.
+        float shiftX = camera.position.x * (1 - layer.factorX) + layer.bounds.x;
+        float shiftY = camera.position.y * (1 - layer.factorY) + layer.bounds.y + layer.offsetY;
+        float u = (left - shiftX) / imageWidth;
+        float u2 = (right - shiftX) / imageWidth;
+        float v = 1 - (top - shiftY) / imageHeight; // La V de la textura crece hacia abajo.
+        float v2 = 1 - (bottom - shiftY) / imageHeight;
+
+        int i = 0;
+        i = vertex(i, left, bottom, u, v2);
+        i = vertex(i, left, top, u, v);
+        i = vertex(i, right, top, u2, v);
+        vertex(i, right, bottom, u2, v2);
+    }
+
+    private int vertex(int i, float x, float y, float u, float v) {
+        vertices[i++] = x;
+        vertices[i++] = y;
+        vertices[i++] = white;
+        vertices[i++] = u;
+        vertices[i++] = v;
+        return i;
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        shader.dispose();
+    }
+}
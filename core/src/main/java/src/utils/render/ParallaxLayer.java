@@ -0,0 +1,190 @@
+package src.utils.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Un fondo con parallax creado a partir de una capa de tiles del mapa (p. ej. "fondo" o "fondo cueva").
+ * <p>
+ * En lugar de dibujar la capa tile a tile, se dibuja una textura con su patrón repetida en horizontal,
+ * desplazada según la cámara. La textura se genera al cargar la capa: se busca el periodo (en columnas) con
+ * el que se repiten sus tiles y se dibuja un periodo, con todas las filas de la capa, en un `FrameBuffer`. Así
+ * la repetición cae siempre en el borde de un tile y se conserva el orden de tiles de la capa. Si la capa no se
+ * repite dentro de `MAX_SIZE` píxeles, se corta ahí (sigue alineada a los tiles).
+ * <p>
+ * Para respetar la forma de la capa (p. ej. el fondo de la cueva solo aparece dentro de la cueva) se guarda una
+ * máscara de una celda por tile: el shader descarta los píxeles cuyas celdas estaban vacías.
+ * <p>
+ * Propiedades de la capa en Tiled:
+ * <ul>
+ *     <li>`parallax` (float): cuánto se mueve con la cámara (0 = fijo en pantalla, 1 = como el mundo). Obligatoria.</li>
+ *     <li>`parallaxY` (float): igual en vertical (por defecto el mismo valor que `parallax`).</li>
+ *     <li>`parallaxScale` (float): escala de la imagen (por defecto 1).</li>
+ *     <li>`parallaxOffsetY` (float): desplazamiento vertical en píxeles respecto a la posición de la capa (por defecto 0).</li>
+ *     <li>`parallaxRepeatY` (bool): si la imagen se repite también en vertical (por defecto se estira el borde).</li>
+ * </ul>
+ */
+public class ParallaxLayer implements Disposable {
+    private static final int MAX_SIZE = 2048; // Ancho máximo (en píxeles) de la textura con el patrón.
+
+    final Texture texture; // Un periodo del patrón de la capa, con la primera fila arriba como una imagen.
+    final Texture mask; // Una celda por tile: opaca donde la capa tenía tile.
+    final Rectangle area; // Rectángulo (en píxeles del mundo) que cubre la capa.
+    final Rectangle bounds; // Rectángulo mínimo con tiles, dentro de `area`; la textura empieza en su esquina.
+    final Float factorX, factorY, scale, offsetY;
+    final Boolean repeatY;
+    private final FrameBuffer frameBuffer; // Dueño de `texture`.
+
+    /**
+     * Crea el fondo a partir de una capa de tiles. La capa debe tener la propiedad `parallax`.
+     * Usa OpenGL: debe llamarse en el hilo de render.
+     * @param layer La capa de tiles.
+     * @param offsetPixels Desplazamiento X (en píxeles) del segmento al que pertenece el mapa.
+     * @param batch Batch con el que dibujar el patrón (se deja como estaba).
+     * @return El fondo, o null si la capa está vacía.
+     */
+    public static ParallaxLayer fromTileLayer(TiledMapTileLayer layer, float offsetPixels, Batch batch) {
+        int width = layer.getWidth(), height = layer.getHeight();
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        pixmap.setColor(1f, 1f, 1f, 1f);
+        int minX = width, minY = height, maxX = -1, maxY = -1;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (isEmpty(layer.getCell(x, y))) continue;
+                pixmap.drawPixel(x, y); // Fila 0 de la máscara = fila inferior de la capa.
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+        }
+        if (maxX < 0) {
+            pixmap.dispose();
+            return null;
+        }
+
+        Texture mask = new Texture(pixmap);
+        mask.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        pixmap.dispose();
+
+        int tileWidth = (int) layer.getTileWidth(), tileHeight = (int) layer.getTileHeight();
+        int columns = maxX - minX + 1, rows = maxY - minY + 1;
+        int period = findPeriod(layer, minX, minY, columns, rows, Math.max(1, Math.min(columns, MAX_SIZE / tileWidth)));
+        FrameBuffer frameBuffer = bake(layer, batch, minX, minY, columns, rows, period);
+
+        Rectangle area = new Rectangle(offsetPixels, 0, width * tileWidth, height * tileHeight);
+        Rectangle bounds = new Rectangle(offsetPixels + minX * tileWidth, minY * tileHeight, columns * tileWidth, rows * tileHeight);
+        Float factor = layer.getProperties().get("parallax", Float.class);
+        return new ParallaxLayer(frameBuffer, mask, area, bounds,
+            factor,
+            layer.getProperties().get("parallaxY", factor, Float.class),
+            layer.getProperties().get("parallaxScale", 1f, Float.class),
+            layer.getProperties().get("parallaxOffsetY", 0f, Float.class),
+            layer.getProperties().get("parallaxRepeatY", false, Boolean.class));
+    }
+
+    /**
+     * El menor número de columnas con el que se repiten los tiles de la capa. Las celdas vacías (que tapa la
+     * máscara) valen como cualquier tile.
+     * @return El periodo, o `maxPeriod` si no se repite antes.
+     */
+    private static int findPeriod(TiledMapTileLayer layer, int minX, int minY, int columns, int rows, int maxPeriod) {
+        for (int period = 1; period < maxPeriod; period++) {
+            if (repeatsEvery(layer, minX, minY, columns, rows, period)) return period;
+        }
+        return maxPeriod;
+    }
+
+    private static boolean repeatsEvery(TiledMapTileLayer layer, int minX, int minY, int columns, int rows, int period) {
+        for (int y = minY; y < minY + rows; y++) {
+            for (int x = minX; x + period < minX + columns; x++) {
+                TiledMapTileLayer.Cell a = layer.getCell(x, y), b = layer.getCell(x + period, y);
+                if (isEmpty(a) || isEmpty(b)) continue;
+                if (a.getTile() != b.getTile() || a.getFlipHorizontally() != b.getFlipHorizontally()
+                    || a.getFlipVertically() != b.getFlipVertically() || a.getRotation() != b.getRotation()) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Dibuja un periodo de la capa en un `FrameBuffer`. Cada celda del periodo toma el primer tile que encuentra
+     * en su columna a lo largo de la capa, así los huecos de una repetición se rellenan con las demás.
+     */
+    private static FrameBuffer bake(TiledMapTileLayer layer, Batch batch, int minX, int minY, int columns, int rows, int period) {
+        int tileWidth = (int) layer.getTileWidth(), tileHeight = (int) layer.getTileHeight();
+        int width = period * tileWidth, height = rows * tileHeight;
+        FrameBuffer frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+
+        boolean drawing = batch.isDrawing();
+        if (drawing) batch.end();
+        Matrix4 projection = batch.getProjectionMatrix().cpy();
+        Color color = batch.getColor().cpy();
+        boolean blending = batch.isBlendingEnabled();
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        // Con la Y invertida la textura queda con la primera fila arriba, como una imagen leída de disco, y las
+        // UV de `ParallaxBackground` valen igual. Los tiles no se solapan: se copian sin mezclar.
+        batch.setProjectionMatrix(new Matrix4().setToOrtho2D(0, height, width, -height));
+        batch.setColor(Color.WHITE);
+        batch.disableBlending();
+        batch.begin();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < period; column++) {
+                TiledMapTileLayer.Cell cell = null;
+                for (int x = minX + column; x < minX + columns && isEmpty(cell); x += period) cell = layer.getCell(x, minY + row);
+                if (isEmpty(cell)) continue;
+                batch.draw(cell.getTile().getTextureRegion(), column * tileWidth, row * tileHeight,
+                    tileWidth / 2f, tileHeight / 2f, tileWidth, tileHeight,
+                    cell.getFlipHorizontally() ? -1f : 1f, cell.getFlipVertically() ? -1f : 1f, cell.getRotation() * 90f);
+            }
+        }
+        batch.end();
+        frameBuffer.end();
+
+        if (blending) batch.enableBlending();
+        batch.setColor(color);
+        batch.setProjectionMatrix(projection);
+        if (drawing) batch.begin();
+        return frameBuffer;
+    }
+
+    private static boolean isEmpty(TiledMapTileLayer.Cell cell) {
+        return cell == null || cell.getTile() == null;
+    }
+
+    private ParallaxLayer(FrameBuffer frameBuffer, Texture mask, Rectangle area, Rectangle bounds,
+                          Float factorX, Float factorY, Float scale, Float offsetY, Boolean repeatY) {
+        this.frameBuffer = frameBuffer;
+        this.texture = frameBuffer.getColorBufferTexture();
+        this.mask = mask;
+        this.area = area;
+        this.bounds = bounds;
+        this.factorX = factorX;
+        this.factorY = factorY;
+        this.scale = scale;
+        this.offsetY = offsetY;
+        this.repeatY = repeatY;
+    }
+
+    /**
+     * Libera la textura del patrón y la máscara.
+     */
+    @Override
+    public void dispose() {
+        frameBuffer.dispose();
+        mask.dispose();
+    }
+}
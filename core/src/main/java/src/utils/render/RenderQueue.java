@@ -0,0 +1,128 @@
+package src.utils.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.utils.IntIntMap;
+
+import java.util.Arrays;
+
+/**
+ * La clase `RenderQueue` es una lista reutilizable de órdenes de dibujo del mundo. Durante la actualización, cada
+ * entidad visible añade sus sprites; luego la lista se ordena por capa y por textura y se envía al `Batch` de una
+ * vez. Así los sprites de una misma textura quedan seguidos y el `Batch` solo se vacía al cambiar de textura, y el
+ * dibujo ya no depende del orden en que los actores se añadieron al Stage.
+ * <p>
+ * Cada orden guarda una copia de los 20 vértices del sprite (posición, color y UV, en el formato de
+ * `SpriteBatch`), es decir la región, la transformación y el tinte ya resueltos; no guarda referencias a la
+ * entidad, así que la lista se puede preparar en otro hilo. Los datos van en arrays que solo crecen, sin objetos
+ * por orden.
+ * <p>
+ * El orden se decide con una clave `long` por orden, de mayor a menor peso: capa (7 bits), textura (12 bits),
+ * orden de creación de la entidad (24 bits, para que dos sprites superpuestos no se intercambien entre frames) e
+ * índice de la orden (20 bits).
+ */
+public class RenderQueue {
+    // Capas del mundo, de atrás hacia delante (0-127).
+    public static final int LAYER_ITEMS = 10;
+    public static final int LAYER_ENTITIES = 20;
+    public static final int LAYER_PROJECTILES = 30;
+    public static final int LAYER_PLAYER = 40;
+
+    private static final int SPRITE_SIZE = 20; // 4 vértices x (x, y, color, u, v).
+    private static final int INDEX_BITS = 20;
+    private static final int ORDER_BITS = 24;
+    private static final int TEXTURE_BITS = 12;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long ORDER_MASK = (1L << ORDER_BITS) - 1;
+    private static final long TEXTURE_MASK = (1L << TEXTURE_BITS) - 1;
+    private static final int MAX_COMMANDS = 1 << INDEX_BITS;
+
+    private float[] vertices;
+    private Texture[] textures;
+    private long[] keys;
+    private int count;
+    private final IntIntMap textureIds; // Handle de OpenGL de la textura -> id corto para la clave.
+
+    public RenderQueue() {
+        this(256);
+    }
+
+    public RenderQueue(Integer capacity) {
+        vertices = new float[capacity * SPRITE_SIZE];
+        textures = new Texture[capacity];
+        keys = new long[capacity];
+        textureIds = new IntIntMap();
+    }
+
+    /**
+     * Vacía la lista (no libera memoria). Se llama al principio de cada frame.
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) textures[i] = null;
+        count = 0;
+    }
+
+    /**
+     * Añade un sprite con sus vértices actuales (el `Sprite` solo los recalcula si cambió).
+     * @param sprite El sprite a dibujar.
+     * @param layer Capa (0-127); las capas mayores se dibujan encima.
+     * @param order Orden de dibujo dentro de la capa y la textura (p. ej. el orden de creación de la entidad).
+     */
+    public void add(Sprite sprite, int layer, int order) {
+        add(sprite.getTexture(), sprite.getVertices(), 0, layer, order);
+    }
+
+    /**
+     * Añade una orden a partir de 20 vértices en el formato de `SpriteBatch`.
+     */
+    public void add(Texture texture, float[] spriteVertices, int offset, int layer, int order) {
+        if (texture == null || count == MAX_COMMANDS) return;
+        if (count == textures.length) grow();
+        int index = count++;
+        System.arraycopy(spriteVertices, offset, vertices, index * SPRITE_SIZE, SPRITE_SIZE);
+        textures[index] = texture;
+        keys[index] = ((long) (layer & 0x7F) << (TEXTURE_BITS + ORDER_BITS + INDEX_BITS))
+            | ((textureId(texture) & TEXTURE_MASK) << (ORDER_BITS + INDEX_BITS))
+            | ((order & ORDER_MASK) << INDEX_BITS)
+            | index;
+    }
+
+    /**
+     * Ordena la lista por capa, textura y orden de dibujo.
+     */
+    public void sort() {
+        Arrays.sort(keys, 0, count);
+    }
+
+    /**
+     * Dibuja todas las órdenes en el orden calculado por `sort`. Debe llamarse entre `begin` y `end`.
+     */
+    public void submit(Batch batch) {
+        for (int i = 0; i < count; i++) {
+            int index = (int) (keys[i] & INDEX_MASK);
+            batch.draw(textures[index], vertices, index * SPRITE_SIZE, SPRITE_SIZE);
+        }
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    private long textureId(Texture texture) {
+        int handle = texture.getTextureObjectHandle();
+        int id = textureIds.get(handle, -1);
+        if (id == -1) {
+            id = textureIds.size;
+            textureIds.put(handle, id);
+        }
+        return id;
+    }
+
+    private void grow() {
+        int capacity = Math.min(textures.length * 2, MAX_COMMANDS);
+        vertices = Arrays.copyOf(vertices, capacity * SPRITE_SIZE);
+        textures = Arrays.copyOf(textures, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+    }
+}
@@ -0,0 +1,99 @@
+package src.utils.render;
+
+import src.utils.log.Log;
+
+/**
+ * La clase `ResolutionGovernor` decide a qué escala se dibuja el mundo (ver `WorldFrameBuffer.setRenderScale`)
+ * para mantener el tiempo de frame objetivo: baja la resolución cuando los frames se pasan del presupuesto y
+ * la sube cuando sobra margen.
+ * <p>
+ * Se usan dos medidas, suavizadas con una media móvil:
+ * <ul>
+ *     <li>El tiempo entre frames (el `delta`), que incluye la espera a la GPU al presentar el frame. Si supera
+ *     el objetivo durante `DOWN_DELAY` segundos, la escala baja.</li>
+ *     <li>El tiempo de trabajo de `render` (sin la espera de vsync). Si queda por debajo de `UP_MARGIN` veces el
+ *     objetivo durante `UP_DELAY` segundos, y además el tiempo entre frames no pasa de `UP_FRAME_MARGIN` veces
+ *     el objetivo, la escala sube.</li>
+ * </ul>
+ * El trabajo de `render` solo mide la CPU: cuando el cuello de botella es la GPU queda bajo aunque los frames
+ * lleguen tarde. Por eso para subir hace falta también que el tiempo entre frames esté dentro del presupuesto;
+ * si no, la escala subiría y volvería a bajar en cuanto el frame se pasara.
+ * Subir exige más tiempo y más margen que bajar, y tras cada cambio se espera `COOLDOWN` segundos, para que la
+ * escala no oscile entre dos valores.
+ */
+public class ResolutionGovernor {
+    private static final String TAG = "ResolutionGovernor";
+    private static final float SMOOTHING = 0.1f; // Peso de cada frame nuevo en la media móvil.
+    private static final float DOWN_MARGIN = 1.1f; // Se baja si el frame tarda más de 1.1 veces el objetivo...
+    private static final float DOWN_DELAY = 0.5f; // ...durante este tiempo (segundos).
+    private static final float UP_MARGIN = 0.7f; // Se sube si el trabajo tarda menos de 0.7 veces el objetivo...
+    private static final float UP_DELAY = 3f; // ...durante este tiempo (segundos)...
+    private static final float UP_FRAME_MARGIN = 1.05f; // ...y el frame no tarda más de 1.05 veces el objetivo.
+    private static final float COOLDOWN = 1f; // Segundos sin cambios tras cada ajuste.
+    private static final float STEP = 0.125f; // Cambio de escala en cada ajuste.
+
+    private final Float minScale, maxScale;
+    private final Float targetFrameTime; // Segundos por frame que se quieren mantener.
+    private float scale;
+    private float averageFrame, averageWork;
+    private float overBudget, underBudget; // Tiempo seguido por encima / por debajo de los umbrales.
+    private float cooldown;
+
+    /**
+     * Constructor de `ResolutionGovernor`. Empieza con la escala máxima.
+     * @param minScale Escala mínima permitida.
+     * @param maxScale Escala máxima permitida.
+     * @param targetFps Frames por segundo que se quieren mantener.
+     */
+    public ResolutionGovernor(Float minScale, Float maxScale, Integer targetFps) {
+        this.minScale = Math.min(minScale, maxScale);
+        this.maxScale = maxScale;
+        this.targetFrameTime = 1f / targetFps;
+        scale = maxScale;
+        averageFrame = averageWork = targetFrameTime;
+    }
+
+    /**
+     * Registra un frame y ajusta la escala si hace falta.
+     * @param frameTime Tiempo desde el frame anterior (segundos).
+     * @param workTime Tiempo que tardó `render` en este frame (segundos).
+     * @return true si la escala cambió.
+     */
+    public boolean update(float frameTime, float workTime) {
+        averageFrame += (frameTime - averageFrame) * SMOOTHING;
+        averageWork += (workTime - averageWork) * SMOOTHING;
+        if (minScale.equals(maxScale)) return false;
+        if (cooldown > 0) {
+            cooldown -= frameTime;
+            return false;
+        }
+
+        overBudget = averageFrame > targetFrameTime * DOWN_MARGIN ? overBudget + frameTime : 0f;
+        boolean frameInBudget = averageFrame <= targetFrameTime * UP_FRAME_MARGIN;
+        underBudget = frameInBudget && averageWork < targetFrameTime * UP_MARGIN ? underBudget + frameTime : 0f;
+
+        float next = scale;
+        if (overBudget > DOWN_DELAY) {
+            next = Math.max(minScale, scale - STEP);
+            underBudget = 0f; // El margen acumulado antes de pasarse del presupuesto ya no vale para subir.
+        } else if (underBudget > UP_DELAY) {
+            next = Math.min(maxScale, scale + STEP);
+        }
+        if (next == scale) return false;
+
+        Log.info(TAG, "Escala del mundo {} -> {}", scale, next);
+        Log.debug(TAG, "Frame medio {} s, trabajo medio {} s", averageFrame, averageWork);
+        scale = next;
+        overBudget = underBudget = 0f;
+        cooldown = COOLDOWN;
+        return true;
+    }
+
+    public float getScale() {
+        return scale;
+    }
+
+    public Float getAverageFrameTime() {
+        return averageFrame;
+    }
+}
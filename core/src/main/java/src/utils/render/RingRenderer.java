@@ -0,0 +1,155 @@
+package src.utils.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import src.utils.animation.AtlasLookup;
+import src.utils.animation.SheetCutter;
+
+import java.nio.FloatBuffer;
+
+import static src.utils.constants.Constants.PIXELS_IN_METER;
+
+/**
+ * La clase `RingRenderer` dibuja todos los anillos visibles con una sola llamada de dibujo.
+ * <p>
+ * Todos los anillos reproducen la misma animación de 4 frames a la vez, así que el frame (y sus UV) se calcula
+ * una vez por frame en `update`. Cada anillo visible solo aporta su posición: `add` escribe su quad directamente
+ * en el `FloatBuffer` directo de un `Mesh` propio, sin `Sprite` ni objetos por anillo, y `render` sube el buffer
+ * de una vez y lo dibuja con el shader del Batch compartido. El coste de miles de anillos es el de un solo
+ * vaciado del Batch.
+ * <p>
+ * Uso en cada frame: `update(delta)`, luego `add` por cada anillo visible (ver `Rings.enqueue`) y
+ * `render` dentro de la pasada del mundo.
+ */
+public class RingRenderer implements Disposable {
+    private static final String RING_SHEET = "world/entities/Objetos/anillos.png";
+    private static final int FRAMES = 4;
+    private static final float FRAME_DURATION = 0.1f;
+    private static final int MAX_CAPACITY = 8191; // Índices `short`: 4 vértices por anillo.
+
+    private final Animation<TextureRegion> animation;
+    private final Texture texture;
+    private final Mesh mesh;
+    private final int capacity;
+    private final float halfWidth, halfHeight; // Mitad del tamaño del anillo, en píxeles.
+    private final float white;
+    private FloatBuffer vertices; // Buffer directo de vértices del Mesh; se escribe en él sin copias intermedias.
+    private float stateTime;
+    private float u, v, u2, v2; // UV del frame actual, comunes a todos los anillos.
+    private int count;
+
+    /**
+     * Constructor de `RingRenderer`.
+     * @param assetManager El AssetManager con la hoja de anillos cargada.
+     * @param width Ancho de un anillo en metros.
+     * @param height Alto de un anillo en metros.
+     * @param capacity Número máximo de anillos por frame (hasta 8191); los que no caben no se dibujan.
+     */
+    public RingRenderer(AssetManager assetManager, Float width, Float height, Integer capacity) {
+        TextureRegion[] frames = SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, RING_SHEET), FRAMES);
+        animation = new Animation<>(FRAME_DURATION, frames);
+        animation.setPlayMode(Animation.PlayMode.LOOP);
+        texture = frames[0].getTexture();
+        this.capacity = Math.min(capacity, MAX_CAPACITY);
+        halfWidth = width * PIXELS_IN_METER / 2;
+        halfHeight = height * PIXELS_IN_METER / 2;
+        white = Color.WHITE.toFloatBits();
+
+        Mesh.VertexDataType type = Gdx.gl30 != null ? Mesh.VertexDataType.VertexBufferObjectWithVAO : Mesh.VertexDataType.VertexArray;
+        mesh = new Mesh(type, false, this.capacity * 4, this.capacity * 6,
+            new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            new VertexAttribute(VertexAttributes.Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+            new VertexAttribute(VertexAttributes.Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+        short[] indices = new short[this.capacity * 6];
+        for (int i = 0, j = 0; i < indices.length; i += 6, j += 4) {
+            indices[i] = (short) j;
+            indices[i + 1] = (short) (j + 1);
+            indices[i + 2] = (short) (j + 2);
+            indices[i + 3] = (short) (j + 2);
+            indices[i + 4] = (short) (j + 3);
+            indices[i + 5] = (short) j;
+        }
+        mesh.setIndices(indices);
+        update(0f);
+    }
+
+    /**
+     * Avanza la animación común y vacía la lista de anillos del frame. Se llama una vez por frame, antes de `add`.
+     * @param delta El tiempo transcurrido desde el último fotograma.
+     */
+    public void update(float delta) {
+        stateTime += delta;
+        TextureRegion frame = animation.getKeyFrame(stateTime);
+        u = frame.getU();
+        v = frame.getV();
+        u2 = frame.getU2();
+        v2 = frame.getV2();
+        count = 0;
+        vertices = mesh.getVerticesBuffer(true); // Marca el buffer como modificado para que se suba al dibujar.
+        vertices.clear();
+    }
+
+    /**
+     * Añade un anillo al frame.
+     * @param x Posición X del centro en metros.
+     * @param y Posición Y del centro en metros.
+     */
+    public void add(float x, float y) {
+        if (count == capacity) return;
+        count++;
+        float left = x * PIXELS_IN_METER - halfWidth;
+        float bottom = y * PIXELS_IN_METER - halfHeight;
+        float right = left + halfWidth * 2;
+        float top = bottom + halfHeight * 2;
+        vertices.put(left).put(bottom).put(white).put(u).put(v2);
+        vertices.put(left).put(top).put(white).put(u).put(v);
+        vertices.put(right).put(top).put(white).put(u2).put(v);
+        vertices.put(right).put(bottom).put(white).put(u2).put(v2);
+    }
+
+    /**
+     * Dibuja los anillos añadidos en este frame. Debe llamarse entre `begin` y `end` del Batch: vacía el
+     * Batch, dibuja el Mesh con el shader del Batch y la proyección dada, y vuelve a abrir el Batch (que así
+     * olvida la última textura y la vuelve a enlazar en el siguiente dibujo).
+     * @param batch El Batch compartido, en medio de su pasada.
+     * @param projection La proyección del mundo (p. ej. `camera.combined`).
+     */
+    public void render(Batch batch, Matrix4 projection) {
+        if (count == 0) return;
+        batch.end();
+        vertices.flip(); // Solo se sube la parte escrita.
+
+        ShaderProgram shader = batch.getShader();
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        shader.setUniformi("u_texture", 0);
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFuncSeparate(batch.getBlendSrcFunc(), batch.getBlendDstFunc(),
+            batch.getBlendSrcFuncAlpha(), batch.getBlendDstFuncAlpha());
+        texture.bind(0);
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, count * 6);
+
+        batch.begin();
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    @Override
+    public void dispose() {
+        mesh.dispose();
+    }
+}
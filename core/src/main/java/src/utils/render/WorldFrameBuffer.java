@@ -0,0 +1,171 @@
+package src.utils.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * La clase `WorldFrameBuffer` dibuja el mundo (tiles, sprites y partículas) en un `FrameBuffer` de baja
+ * resolución (p. ej. 480x270) y luego lo escala a la ventana con filtro nearest, en un múltiplo entero
+ * siempre que quepa. Así el coste de rasterizar el mundo no depende de la resolución del monitor y los
+ * píxeles se ven nítidos. La interfaz (stageUI) se dibuja después, a resolución nativa.
+ * <p>
+ * La resolución real del dibujo se puede escalar con `setRenderScale` (ver `ResolutionGovernor`): el
+ * FrameBuffer se crea una vez para la escala máxima y solo se usa la parte que corresponde a la escala
+ * actual, así que cambiarla no reserva memoria de vídeo. El tamaño en pantalla no cambia.
+ * <p>
+ * Uso en cada frame:
+ * <pre>
+ * worldFrameBuffer.begin(skyColor);
+ * // dibujar el mundo
+ * worldFrameBuffer.end();
+ * worldFrameBuffer.draw(batch);
+ * </pre>
+ */
+public class WorldFrameBuffer implements Disposable {
+    private final Integer width, height; // Resolución virtual del mundo (unidades que ve la cámara).
+    private final Viewport viewport; // Viewport del Stage del mundo; se ajusta al tamaño del FrameBuffer.
+    private FrameBuffer frameBuffer;
+    private final Matrix4 screenProjection;
+    private int drawX, drawY, drawWidth, drawHeight; // Rectángulo de la ventana donde se dibuja la imagen.
+    private final Float maxScale;
+    private Float renderScale; // Fracción de la resolución virtual con la que se dibuja realmente.
+    private int renderWidth, renderHeight; // Parte del FrameBuffer que se usa con la escala actual.
+
+    /**
+     * Constructor de `WorldFrameBuffer`.
+     * @param viewport Viewport del Stage del mundo (su tamaño de mundo define lo que ve la cámara).
+     * @param width Ancho de la resolución virtual del mundo, en píxeles.
+     * @param height Alto de la resolución virtual del mundo, en píxeles.
+     * @param maxScale Escala máxima que se podrá usar en `setRenderScale` (1 = resolución virtual).
+     */
+    public WorldFrameBuffer(Viewport viewport, Integer width, Integer height, Float maxScale) {
+        this.viewport = viewport;
+        this.width = width;
+        this.height = height;
+        this.maxScale = maxScale;
+        screenProjection = new Matrix4();
+        createFrameBuffer();
+        renderScale = 1f;
+        setRenderScale(Math.min(1f, maxScale));
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    public WorldFrameBuffer(Viewport viewport, Integer width, Integer height) {
+        this(viewport, width, height, 1f);
+    }
+
+    /**
+     * Cambia la resolución con la que se dibuja el mundo, sin cambiar lo que ve la cámara ni su tamaño en pantalla.
+     * @param scale Fracción de la resolución virtual (se limita a `(0, maxScale]`).
+     */
+    public void setRenderScale(float scale) {
+        scale = Math.max(0.1f, Math.min(scale, maxScale));
+        renderScale = scale;
+        renderWidth = Math.round(width * scale);
+        renderHeight = Math.round(height * scale);
+        // Con una escala entera los píxeles siguen siendo nítidos; si no, se suavizan para no deformarlos.
+        Texture.TextureFilter filter = scale == (float) Math.floor(scale) ? Texture.TextureFilter.Nearest : Texture.TextureFilter.Linear;
+        frameBuffer.getColorBufferTexture().setFilter(filter, filter);
+        fitViewport();
+    }
+
+    public Float getRenderScale() {
+        return renderScale;
+    }
+
+    /**
+     * Recalcula dónde y a qué escala se dibuja la imagen. Debe llamarse desde `resize` de la pantalla.
+     * @param screenWidth Ancho de la ventana.
+     * @param screenHeight Alto de la ventana.
+     */
+    public void resize(int screenWidth, int screenHeight) {
+        // Se trabaja en píxeles reales de la ventana para que el múltiplo sea entero también en pantallas HiDPI.
+        screenWidth = HdpiUtils.toBackBufferX(screenWidth);
+        screenHeight = HdpiUtils.toBackBufferY(screenHeight);
+        float fit = Math.min((float) screenWidth / width, (float) screenHeight / height);
+        // Escala entera si cabe al menos x1; si la ventana es más pequeña que el FrameBuffer se reduce sin más.
+        float scale = fit >= 1f ? (float) Math.floor(fit) : fit;
+        drawWidth = Math.round(width * scale);
+        drawHeight = Math.round(height * scale);
+        drawX = (screenWidth - drawWidth) / 2;
+        drawY = (screenHeight - drawHeight) / 2;
+        screenProjection.setToOrtho2D(0, 0, screenWidth, screenHeight);
+        fitViewport();
+    }
+
+    /**
+     * Ajusta el viewport del mundo a la parte usada del FrameBuffer. No se usa `viewport.update`: su `apply`
+     * pasa por `HdpiUtils`, que escala el rectángulo con la densidad de la ventana, y el FrameBuffer ya está en
+     * píxeles reales. El `glViewport` se hace en `begin`.
+     */
+    private void fitViewport() {
+        viewport.setScreenBounds(0, 0, renderWidth, renderHeight);
+        Camera camera = viewport.getCamera();
+        camera.viewportWidth = viewport.getWorldWidth();
+        camera.viewportHeight = viewport.getWorldHeight();
+    }
+
+    /**
+     * Empieza a dibujar en el FrameBuffer y lo limpia.
+     * @param clearColor Color de fondo del mundo.
+     */
+    public void begin(Color clearColor) {
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(clearColor.r, clearColor.g, clearColor.b, clearColor.a);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        // Directamente en píxeles del FrameBuffer, sin `HdpiUtils` (ver `fitViewport`).
+        Gdx.gl.glViewport(0, 0, renderWidth, renderHeight);
+        viewport.getCamera().update();
+    }
+
+    /**
+     * Termina de dibujar en el FrameBuffer.
+     */
+    public void end() {
+        frameBuffer.end(); // Vuelve a dibujar en la ventana, con el viewport de la ventana completa.
+    }
+
+    /**
+     * Dibuja la imagen del mundo escalada en la ventana. Usa su propia proyección, así que sirve el Batch
+     * compartido mientras no esté entre `begin` y `end`.
+     * @param batch Batch con el que dibujar.
+     */
+    public void draw(Batch batch) {
+        Texture texture = frameBuffer.getColorBufferTexture();
+        batch.setProjectionMatrix(screenProjection);
+        batch.setColor(Color.WHITE);
+        batch.begin();
+        // La textura de un FrameBuffer está invertida en Y.
+        batch.draw(texture, drawX, drawY, drawWidth, drawHeight, 0, 0, renderWidth, renderHeight, false, true);
+        batch.end();
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    private void createFrameBuffer() {
+        int bufferWidth = (int) Math.ceil(width * Math.max(1f, maxScale));
+        int bufferHeight = (int) Math.ceil(height * Math.max(1f, maxScale));
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, bufferWidth, bufferHeight, false);
+    }
+
+    @Override
+    public void dispose() {
+        frameBuffer.dispose();
+    }
+}
@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import src.main.Main;
+import src.utils.log.Log;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -18,6 +19,7 @@ import java.util.concurrent.Executors;
  * Permite controlar el volumen global, el volumen de la música y el volumen de los efectos de sonido de forma independiente.
  */
 public class SoundManager implements Music.OnCompletionListener {
+    private static final String TAG = "SoundManager";
     private Float volume = 1f; // Volumen global de la aplicación (0.0f a 1.0f).
     private Float volumeMusic = 1f; // Volumen específico para la música (0.0f a 1.0f), se multiplica con el volumen global.
     private Float volumeSound = 1f; // Volumen específico para los efectos de sonido (0.0f a 1.0f), se multiplica con el volumen global.
@@ -140,7 +142,7 @@ public class SoundManager implements Music.OnCompletionListener {
             currentMusic = music; // Asigna la nueva música como la actual.
             Gdx.app.postRunnable(() -> { // Ejecuta la reproducción de la música en el hilo principal de LibGDX.
                 music.play();
-                System.out.println("Music started"); // Mensaje de depuración.
+                Log.debug(TAG, "Music started");
             });
 
             // Bucle para realizar el fade-in de la música.
@@ -151,7 +153,7 @@ public class SoundManager implements Music.OnCompletionListener {
                 try {
                     Thread.sleep(50); // Pausa brevemente para suavizar el fade.
                 } catch (InterruptedException e) {
-                    Gdx.app.log("SoundManager", "Error al iniciar la música"); // Manejo de errores.
+                    Log.warn(TAG, "Error al iniciar la música"); // Manejo de errores.
                 }
             }
         });
@@ -179,7 +181,7 @@ public class SoundManager implements Music.OnCompletionListener {
             try {
                 Thread.sleep(50); // Pausa brevemente para suavizar el fade.
             } catch (InterruptedException e) {
-                Gdx.app.log("SoundManager", "Error al detener la música"); // Manejo de errores.
+                Log.warn(TAG, "Error al detener la música"); // Manejo de errores.
             }
         }
         currentMusic.stop(); // Detiene la música una vez que el volumen llega a 0.
@@ -0,0 +1,270 @@
+package src.utils.startup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import src.utils.log.Log;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * La clase `StartupGraph` ejecuta la inicialización del juego como un grafo de tareas con dependencias, en vez
+ * de una detrás de otra. Cada tarea tiene dos partes opcionales:
+ * <ul>
+ *     <li>`work`: trabajo de CPU (leer y decodificar archivos, rasterizar fuentes...), que corre en un hilo del
+ *     grupo de trabajadores. No puede usar OpenGL.</li>
+ *     <li>`finish`: la parte que necesita el hilo de render (crear texturas, shaders, pantallas...), que recibe
+ *     el resultado de `work` y se ejecuta en `update`.</li>
+ * </ul>
+ * Una tarea empieza cuando todas sus dependencias han terminado (incluido su `finish`). Así el arranque dura lo
+ * que la cadena de tareas más larga, no la suma de todas. Al terminar se registra esa cadena (la ruta crítica)
+ * con el tiempo de cada tarea, para saber qué acortar.
+ * <p>
+ * `update` se llama en cada frame desde el hilo de render con un presupuesto de tiempo, así la pantalla de
+ * carga sigue dibujándose mientras tanto. Si una tarea falla, `update` lanza la excepción.
+ * <p>
+ * Cada tarea se registra también como fase de `StartupProfiler`, con su nombre hasta los dos puntos
+ * ("fonts:inter" cuenta como "fonts").
+ */
+public class StartupGraph implements Disposable {
+    private static final String TAG = "Startup";
+
+    private final Array<Task<?>> tasks;
+    private final ExecutorService workers;
+    private final ConcurrentLinkedQueue<Task<?>> worked; // Tareas con `work` terminado, pendientes de `finish`.
+    private final Array<Task<?>> ready; // Tareas sin `work` listas para su `finish`.
+    private long startTime;
+    private int done;
+    private Boolean started;
+
+    /**
+     * Constructor de `StartupGraph`.
+     * @param workers Número de hilos para el trabajo de CPU (al menos 1).
+     */
+    public StartupGraph(Integer workers) {
+        tasks = new Array<>();
+        worked = new ConcurrentLinkedQueue<>();
+        ready = new Array<>();
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + count.incrementAndGet());
+            thread.setDaemon(true); // No impide cerrar el juego si se cierra durante la carga.
+            return thread;
+        });
+        started = false;
+    }
+
+    /**
+     * Declara una tarea con trabajo en segundo plano.
+     * @param name Nombre para el registro.
+     * @param work Trabajo de CPU; corre en un hilo trabajador.
+     * @param finish Qué hacer con el resultado en el hilo de render (puede ser null).
+     * @param dependencies Tareas que deben terminar antes de empezar esta.
+     * @return La tarea, para usarla como dependencia o leer su resultado.
+     */
+    public <T> Task<T> background(String name, Callable<T> work, Consumer<T> finish, Task<?>... dependencies) {
+        return add(new Task<>(name, work, finish, dependencies));
+    }
+
+    /**
+     * Declara una tarea que solo se ejecuta en el hilo de render (p. ej. porque usa OpenGL).
+     * @param name Nombre para el registro.
+     * @param action La tarea.
+     * @param dependencies Tareas que deben terminar antes de empezar esta.
+     * @return La tarea, para usarla como dependencia.
+     */
+    public Task<Void> main(String name, Runnable action, Task<?>... dependencies) {
+        return add(new Task<Void>(name, null, result -> action.run(), dependencies));
+    }
+
+    private <T> Task<T> add(Task<T> task) {
+        if (started) throw new IllegalStateException("No se pueden añadir tareas después de start: " + task.name);
+        for (Task<?> dependency : task.dependencies) dependency.dependents.add(task);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Lanza las tareas sin dependencias. Las demás se lanzan a medida que terminan las suyas.
+     */
+    public void start() {
+        started = true;
+        startTime = System.nanoTime();
+        for (Task<?> task : tasks) {
+            if (task.pending == 0) schedule(task);
+        }
+    }
+
+    private void schedule(Task<?> task) {
+        task.readyTime = System.nanoTime();
+        if (task.work == null) {
+            ready.add(task);
+            return;
+        }
+        workers.execute(() -> {
+            task.work();
+            worked.add(task);
+        });
+    }
+
+    /**
+     * Ejecuta en el hilo de render las partes `finish` pendientes, hasta agotar el presupuesto (al menos una).
+     * @param budgetMillis Tiempo máximo aproximado, en milisegundos.
+     * @return true si todas las tareas han terminado.
+     */
+    public boolean update(int budgetMillis) {
+        if (isDone()) return true;
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        do {
+            Task<?> task = worked.poll();
+            if (task == null && ready.notEmpty()) task = ready.removeIndex(0);
+            if (task == null) break;
+            if (task.error != null) throw new GdxRuntimeException("Falló la tarea de arranque " + task.name, task.error);
+
+            task.finishStart = System.nanoTime();
+            task.finish();
+            task.finishEnd = System.nanoTime();
+            done++;
+            StartupProfiler.record(task.getPhase(), task.work == null ? task.finishStart : task.workStart, task.finishEnd);
+            Log.debug(TAG, "Tarea {} terminada ({} ms)", task.name, task.getDurationMillis());
+            for (Task<?> dependent : task.dependents) {
+                if (--dependent.pending == 0) schedule(dependent);
+            }
+        } while (System.nanoTime() < deadline);
+
+        if (!isDone()) return false;
+        workers.shutdown();
+        logCriticalPath();
+        return true;
+    }
+
+    public boolean isDone() {
+        return started && done == tasks.size;
+    }
+
+    /**
+     * Fracción de tareas terminadas (de 0 a 1).
+     */
+    public Float getProgress() {
+        return tasks.isEmpty() ? 1f : (float) done / tasks.size;
+    }
+
+    /**
+     * Registra la duración total, la suma de las tareas (lo que habría tardado en serie) y la ruta crítica: se
+     * parte de la última tarea en terminar y se retrocede por la dependencia que terminó más tarde, que es la
+     * que la hizo esperar.
+     */
+    private void logCriticalPath() {
+        Task<?> last = null;
+        long total = 0;
+        for (Task<?> task : tasks) {
+            total += task.getDurationNanos();
+            if (last == null || task.finishEnd > last.finishEnd) last = task;
+        }
+        if (last == null) return;
+
+        Array<Task<?>> path = new Array<>();
+        for (Task<?> task = last; task != null; task = task.gate()) path.insert(0, task);
+        StringBuilder text = new StringBuilder();
+        for (Task<?> task : path) {
+            if (text.length() > 0) text.append(" -> ");
+            text.append(task.name).append(" (").append(task.getDurationMillis()).append(" ms");
+            long wait = (task.finishStart - task.readyTime) - (task.workEnd - task.workStart);
+            if (wait > 1_000_000L) text.append(" + ").append(wait / 1_000_000L).append(" ms en espera");
+            text.append(')');
+        }
+        Log.info(TAG, "Arranque en {} ms (las tareas suman {} ms)", Long.valueOf((last.finishEnd - startTime) / 1_000_000L), Long.valueOf(total / 1_000_000L));
+        Log.info(TAG, "Ruta crítica: {}", text);
+    }
+
+    /**
+     * Detiene los hilos trabajadores (las tareas en curso terminan, pero su `finish` ya no se ejecuta).
+     */
+    @Override
+    public void dispose() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Una tarea del grafo. Los tiempos se miden en nanosegundos con `System.nanoTime`.
+     * @param <T> Tipo del resultado de `work`.
+     */
+    public static class Task<T> {
+        private final String name;
+        private final Callable<T> work;
+        private final Consumer<T> finish;
+        private final Task<?>[] dependencies;
+        private final Array<Task<?>> dependents;
+        private int pending; // Dependencias sin terminar (solo se toca en el hilo de render).
+        private volatile T result;
+        private volatile Throwable error;
+        private volatile long workStart, workEnd;
+        private long readyTime, finishStart, finishEnd;
+
+        private Task(String name, Callable<T> work, Consumer<T> finish, Task<?>[] dependencies) {
+            this.name = name;
+            this.work = work;
+            this.finish = finish;
+            this.dependencies = dependencies;
+            dependents = new Array<>();
+            pending = dependencies.length;
+        }
+
+        private void work() {
+            workStart = System.nanoTime();
+            try {
+                result = work.call();
+            } catch (Throwable e) {
+                error = e;
+            }
+            workEnd = System.nanoTime();
+        }
+
+        private void finish() {
+            if (finish != null) finish.accept(result);
+        }
+
+        /**
+         * La dependencia que terminó más tarde (null si no tiene).
+         */
+        private Task<?> gate() {
+            Task<?> gate = null;
+            for (Task<?> dependency : dependencies) {
+                if (gate == null || dependency.finishEnd > gate.finishEnd) gate = dependency;
+            }
+            return gate;
+        }
+
+        private long getDurationNanos() {
+            return (workEnd - workStart) + (finishEnd - finishStart);
+        }
+
+        public Long getDurationMillis() {
+            return getDurationNanos() / 1_000_000L;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * La fase de `StartupProfiler` a la que pertenece: el nombre hasta los dos puntos.
+         */
+        private String getPhase() {
+            int colon = name.indexOf(':');
+            return colon < 0 ? name : name.substring(0, colon);
+        }
+
+        /**
+         * Resultado de `work`; disponible cuando la tarea ha terminado (p. ej. en las tareas que dependen de ella).
+         */
+        public T getResult() {
+            return result;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package src.utils.startup;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.OrderedMap;
+import src.utils.log.Log;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * La clase `StartupProfiler` mide las fases del arranque en frío, desde que arranca la JVM hasta que se dibuja
+ * el primer frame del menú. Cada fase es un intervalo con nombre; si una fase se registra varias veces (p. ej.
+ * las dos tareas "fonts:*" de `StartupGraph`, que cuentan como "fonts") se toma desde el primer inicio hasta el
+ * último final. Los tiempos se dan en milisegundos desde el arranque de la JVM.
+ * <p>
+ * Las fases son:
+ * <ul>
+ *     <li>"jvm": de que arranca el proceso a `launched` (el `main` del lanzador).</li>
+ *     <li>`APPLICATION`: la creación del backend (ventana y contexto OpenGL), hasta `Main.create`.</li>
+ *     <li>"create" y una por tarea de `StartupGraph` ("skin", "assets", "loading", "sounds",
+ *     "screens", "fonts").</li>
+ *     <li>"menu": de que termina la carga al primer frame del menú.</li>
+ * </ul>
+ * `finish` registra el informe con `Log`, junto con la memoria residente del proceso (en Linux), y si la
+ * propiedad de sistema "startup.profile" tiene una ruta lo añade a ese archivo CSV para comparar arranques,
+ * p. ej. con y sin archivo CDS, o la JVM con la imagen nativa (ver `startupComparison` en nativeimage.gradle).
+ * <p>
+ * Es estática porque las fases empiezan antes de que exista `Main`. Se puede llamar desde cualquier hilo.
+ */
+public final class StartupProfiler {
+    private static final String TAG = "StartupProfiler";
+    public static final String APPLICATION = "application";
+
+    private static final OrderedMap<String, long[]> phases = new OrderedMap<>(); // Nombre -> {inicio, fin} en `System.nanoTime`.
+    private static long origin = System.nanoTime(); // Arranque de la JVM, o la primera llamada si no se conoce.
+    private static boolean finished;
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Se llama al principio del `main` del lanzador. Sitúa el origen en el arranque del proceso (si el sistema
+     * lo informa) y registra la fase "jvm": carga de la JVM y de las primeras clases.
+     */
+    public static synchronized void launched() {
+        long now = System.nanoTime();
+        Optional<Instant> processStart = ProcessHandle.current().info().startInstant();
+        if (processStart.isEmpty()) {
+            origin = now;
+            return;
+        }
+        long sinceStart = Math.max(0L, System.currentTimeMillis() - processStart.get().toEpochMilli());
+        origin = now - sinceStart * 1_000_000L;
+        record("jvm", origin, now);
+    }
+
+    /**
+     * Marca el inicio de una fase.
+     */
+    public static synchronized void begin(String phase) {
+        long now = System.nanoTime();
+        record(phase, now, now);
+    }
+
+    /**
+     * Marca el final de una fase. Si no se empezó con `begin`, no hace nada.
+     */
+    public static synchronized void end(String phase) {
+        long[] times = phases.get(phase);
+        if (times != null) times[1] = Math.max(times[1], System.nanoTime());
+    }
+
+    /**
+     * Registra una fase ya medida (tiempos de `System.nanoTime`).
+     */
+    public static synchronized void record(String phase, long start, long end) {
+        if (finished) return;
+        long[] times = phases.get(phase);
+        if (times == null) {
+            phases.put(phase, new long[]{start, end});
+        } else {
+            times[0] = Math.min(times[0], start);
+            times[1] = Math.max(times[1], end);
+        }
+    }
+
+    public static synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Cierra la medición (lo que se registre después se ignora), registra el informe y lo guarda en el CSV de
+     * "startup.profile" si está definido. Solo tiene efecto la primera vez.
+     */
+    public static synchronized void finish() {
+        if (finished) return;
+        finished = true;
+        long end = System.nanoTime();
+
+        Array<String> names = new Array<>(phases.orderedKeys());
+        names.sort((a, b) -> Long.compare(phases.get(a)[0], phases.get(b)[0]));
+        StringBuilder text = new StringBuilder();
+        for (String name : names) {
+            long[] times = phases.get(name);
+            text.append("\n  ").append(name).append(": ").append(millis(times[0])).append(" -> ").append(millis(times[1]))
+                .append(" ms (").append((times[1] - times[0]) / 1_000_000L).append(" ms)");
+        }
+        long[] memory = readMemory();
+        if (memory != null) text.append("\n  memoria residente: ").append(memory[0]).append(" KB (pico ").append(memory[1]).append(" KB)");
+        Log.info(TAG, "Primer frame a los {} ms del arranque de la JVM:{}", Long.valueOf(millis(end)), text);
+
+        String path = System.getProperty("startup.profile");
+        if (path != null && !path.isEmpty()) write(new FileHandle(path), names, end, memory);
+    }
+
+    /**
+     * Añade el arranque al CSV: una fila por fase (el valor es su duración en ms), "total" (ms hasta el primer
+     * frame) y, si se conoce, "rss_kb" y "peak_rss_kb". La columna "run" identifica el arranque y "vm" la
+     * máquina virtual: "native" en una imagen nativa; si no, `java.vm.info`, que incluye "sharing" cuando se usa
+     * un archivo CDS.
+     */
+    private static void write(FileHandle file, Array<String> names, long end, long[] memory) {
+        String run = Instant.now().toString();
+        String vm = System.getProperty("org.graalvm.nativeimage.imagecode", "").isEmpty()
+            ? System.getProperty("java.vm.info", "").replace(',', ';') : "native";
+        long total = millis(end);
+        StringBuilder csv = new StringBuilder();
+        if (!file.exists()) csv.append("run,vm,metric,start_ms,value\n");
+        for (String name : names) {
+            long[] times = phases.get(name);
+            csv.append(run).append(',').append(vm).append(',').append(name).append(',')
+                .append(millis(times[0])).append(',').append((times[1] - times[0]) / 1_000_000L).append('\n');
+        }
+        csv.append(run).append(',').append(vm).append(",total,0,").append(total).append('\n');
+        if (memory != null) {
+            csv.append(run).append(',').append(vm).append(",rss_kb,").append(total).append(',').append(memory[0]).append('\n');
+            csv.append(run).append(',').append(vm).append(",peak_rss_kb,").append(total).append(',').append(memory[1]).append('\n');
+        }
+        try {
+            file.writeString(csv.toString(), true, "UTF-8");
+        } catch (GdxRuntimeException e) {
+            Log.warn(TAG, "No se pudo escribir el perfil de arranque: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Memoria residente actual y máxima del proceso (VmRSS y VmHWM), en KB. Solo en Linux: en otros sistemas,
+     * o si no se puede leer, devuelve null.
+     */
+    private static long[] readMemory() {
+        Path status = Paths.get("/proc/self/status");
+        if (!Files.isReadable(status)) return null;
+        long[] memory = {-1L, -1L};
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) memory[0] = kilobytes(line);
+                else if (line.startsWith("VmHWM:")) memory[1] = kilobytes(line);
+            }
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+        return memory[0] < 0 || memory[1] < 0 ? null : memory;
+    }
+
+    /**
+     * El número de una línea de /proc/self/status como "VmRSS:    123456 kB".
+     */
+    private static long kilobytes(String line) {
+        return Long.parseLong(line.substring(line.indexOf(':') + 1).replace("kB", "").trim());
+    }
+
+    private static long millis(long nanoTime) {
+        return (nanoTime - origin) / 1_000_000L;
+    }
+}
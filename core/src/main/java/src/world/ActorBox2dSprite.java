@@ -1,6 +1,5 @@
 package src.world;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
@@ -10,6 +9,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
+import src.utils.render.RenderQueue;
 
 import static src.utils.constants.Constants.PIXELS_IN_METER;
 
@@ -20,10 +20,14 @@ import static src.utils.constants.Constants.PIXELS_IN_METER;
  */
 public abstract class ActorBox2dSprite extends ActorBox2d{
     protected Sprite sprite; // El sprite que representa visualmente el actor.
-    private Float animateTime; // El tiempo acumulado para controlar el progreso de la animación.
+    private float animateTime; // El tiempo acumulado para controlar el progreso de la animación (se avanza en `act`).
     private Animation<TextureRegion> currentAnimation; // La animación actualmente activa para el sprite.
     private Boolean flipX; // Indica si el sprite debe voltearse horizontalmente.
     private final Vector2 spritePosModification; // Un vector para ajustar la posición del sprite respecto al cuerpo Box2D.
+    private TextureRegion drawnFrame; // Último frame aplicado al sprite, para no volver a aplicarlo si no cambia.
+    private static int nextDrawOrder = 0;
+    private final int drawOrder; // Orden de creación; desempata el orden de dibujo dentro de una capa.
+    private int renderLayer; // Capa de dibujo en `RenderQueue`.
 
     /**
      * Constructor de la clase ActorBox2dSprite.
@@ -38,6 +42,8 @@ public abstract class ActorBox2dSprite extends ActorBox2d{
         animateTime = 0f; // Inicializa el tiempo de animación a cero.
         flipX = false; // Por defecto, el sprite no está volteado horizontalmente.
         spritePosModification = new Vector2(0, 0); // Inicializa la modificación de posición del sprite a cero.
+        drawOrder = nextDrawOrder++;
+        renderLayer = RenderQueue.LAYER_ENTITIES;
         // Crea un nuevo Sprite usando una textura de ejemplo ("logo.png") cargada desde el AssetManager.
         sprite = new Sprite(assetManager.get("logo.png", Texture.class));
         // Establece el tamaño del sprite basado en las dimensiones de la forma y la constante de escalado.
@@ -57,7 +63,7 @@ public abstract class ActorBox2dSprite extends ActorBox2d{
      * Obtiene el tiempo acumulado de la animación actual.
      * @return El tiempo transcurrido en la animación actual.
      */
-    public Float getAnimateTime() {
+    public float getAnimateTime() {
         return animateTime;
     }
 
@@ -116,46 +122,97 @@ public abstract class ActorBox2dSprite extends ActorBox2d{
     }
 
     /**
-     * Sobrescribe el método `draw` de la clase `Actor` para renderizar el sprite.
-     * Este método se encarga de actualizar la posición del sprite basándose en
-     * la posición del cuerpo Box2D, seleccionar el frame de la animación y dibujarlo.
+     * Avanza el tiempo de la animación. Se hace aquí y no en `draw` para que la animación siga su curso
+     * aunque el actor no se dibuje (p. ej. fuera de la cámara). Las subclases que sobrescriban `act`
+     * deben llamar a `super.act(delta)`.
+     * @param delta El tiempo transcurrido desde el último fotograma.
+     */
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        animateTime += delta;
+    }
+
+    /**
+     * Fija la capa de dibujo del actor (ver las constantes `LAYER_*` de `RenderQueue`).
+     */
+    public void setRenderLayer(int renderLayer) {
+        this.renderLayer = renderLayer;
+    }
+
+    /**
+     * Añade los sprites del actor a la lista de dibujo del frame. Lo llama `GameScreen` durante la
+     * actualización, después del paso de físicas, para los actores visibles.
+     * @param queue La lista de dibujo del mundo.
+     */
+    public void enqueue(RenderQueue queue) {
+        if (body == null) return;
+        syncSprite();
+        queue.add(sprite, renderLayer, drawOrder);
+    }
+
+    /**
+     * Dibuja el sprite directamente (cuando el actor no se dibuja mediante `RenderQueue`).
+     * Solo se toca el sprite cuando cambia algo (posición, frame, volteo, color u origen); si nada cambió,
+     * el `Sprite` conserva sus vértices ya calculados y dibujarlo es solo copiarlos al `Batch`.
      * @param batch El Batch utilizado para dibujar el sprite.
-     * @param parentAlpha El alfa del padre, que se multiplica con el color del sprite.
+     * @param parentAlpha El alfa del padre (no se usa; el color es el del Actor).
      */
     @Override
     public void draw(Batch batch, float parentAlpha) {
         // Si el cuerpo físico (body) es nulo, no hay nada que dibujar, así que se sale del método.
         if (body == null) return;
+        syncSprite();
+        // Recalcula los vértices solo si el Sprite quedó marcado como sucio.
+        sprite.draw(batch);
+    }
 
-        // Actualiza la posición del Actor (y por ende del sprite) en coordenadas de píxeles.
-        // La posición del cuerpo Box2D (body.getPosition()) está en metros, se escala a píxeles.
-        // Se resta la mitad del ancho/alto para centrar el sprite en la posición del cuerpo Box2D.
-        // Se aplica spritePosModification para ajustes finos de posición.
+    /**
+     * Lleva al sprite la posición del cuerpo, el frame de la animación, el volteo y el color, tocando solo
+     * lo que cambió.
+     */
+    protected void syncSprite() {
+        // Posición del cuerpo (en metros) pasada a píxeles y centrada, con el ajuste de spritePosModification.
+        // `setPosition` del Actor no hace nada si la posición no cambió.
         setPosition(
             body.getPosition().x * PIXELS_IN_METER - getWidth() / 2 + spritePosModification.x,
             body.getPosition().y * PIXELS_IN_METER - getHeight() / 2 + spritePosModification.y
         );
 
-        // Si hay una animación actual, obtiene el frame correspondiente al tiempo de animación actual
-        // y lo establece como la región de textura del sprite. 'false' indica que no es un bucle.
-        if (currentAnimation != null) sprite.setRegion(currentAnimation.getKeyFrame(animateTime, false));
-
-        // Asegura que el sprite mantenga su estado de volteo horizontal.
-        sprite.setFlip(flipX, false); // El volteo vertical es siempre false.
-
-        // Aplica el color del Actor al sprite, incluyendo la transparencia del padre.
-        sprite.setColor(getColor());
-
-        // Establece la posición final del sprite para el dibujo.
-        sprite.setPosition(getX(), getY());
+        // Solo se cambia la región si la animación pasó a otro frame. 'false' indica que no es un bucle.
+        if (currentAnimation != null) {
+            TextureRegion frame = currentAnimation.getKeyFrame(animateTime, false);
+            if (frame != drawnFrame) {
+                sprite.setRegion(frame);
+                drawnFrame = frame;
+            }
+        }
+        updateSprite(sprite, flipX, getX(), getY());
+
+        // El color solo se reescribe en los vértices si cambió.
+        float color = getColor().toFloatBits();
+        if (sprite.getPackedColor() != color) sprite.setPackedColor(color);
+    }
 
-        // Establece el origen del sprite en su centro, importante para rotaciones o escalados.
-        sprite.setOriginCenter();
+    protected int getRenderLayer() {
+        return renderLayer;
+    }
 
-        // Dibuja el sprite en el Batch.
-        sprite.draw(batch);
+    protected int getDrawOrder() {
+        return drawOrder;
+    }
 
-        // Incrementa el tiempo de animación para el siguiente frame en el siguiente ciclo de renderizado.
-        animateTime += Gdx.graphics.getDeltaTime();
+    /**
+     * Aplica volteo, posición y origen a un sprite solo cuando difieren de los que ya tiene, para que el
+     * `Sprite` no marque sus vértices como sucios sin necesidad.
+     * @param target El sprite a actualizar.
+     * @param flip Volteo horizontal deseado.
+     * @param x Posición X en píxeles.
+     * @param y Posición Y en píxeles.
+     */
+    protected static void updateSprite(Sprite target, boolean flip, float x, float y) {
+        if (target.isFlipX() != flip) target.setFlip(flip, false); // El volteo vertical es siempre false.
+        if (target.getX() != x || target.getY() != y) target.setPosition(x, y);
+        if (target.getOriginX() != target.getWidth() / 2 || target.getOriginY() != target.getHeight() / 2) target.setOriginCenter();
     }
 }
@@ -0,0 +1,23 @@
+package src.world;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Clase que representa una colisión estática del mapa formada por una cadena de segmentos.
+ * Se usa para las pendientes generadas a partir de tiles con la propiedad "slope": varias
+ * pendientes consecutivas se unen en una sola cadena para que el jugador no se enganche en las uniones.
+ */
+public class FloorEdge extends FloorShape {
+
+    public FloorEdge(World world, Vector2[] vertices, float x, float y) {
+        super(world, vertices, x, y, createShape(vertices));
+    }
+
+    private static ChainShape createShape(Vector2[] vertices) {
+        ChainShape chainShape = new ChainShape();
+        chainShape.createChain(vertices);
+        return chainShape;
+    }
+}
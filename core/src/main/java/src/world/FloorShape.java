@@ -0,0 +1,66 @@
+package src.world;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import src.utils.constants.CollisionFilters;
+
+/**
+ * Clase base de las colisiones estáticas del mapa definidas por sus vértices (`FloorPoly`, `FloorEdge`).
+ * Crea el cuerpo estático con una sola fixture de la forma que recibe y los filtros de colisión del suelo.
+ */
+public abstract class FloorShape extends ActorBox2d {
+
+    /**
+     * @param world El mundo de Box2D.
+     * @param vertices Los vértices de la forma, relativos a (x, y).
+     * @param x Posición X del cuerpo.
+     * @param y Posición Y del cuerpo.
+     * @param shape La forma ya creada a partir de `vertices`; se libera aquí.
+     */
+    protected FloorShape(World world, Vector2[] vertices, float x, float y, Shape shape) {
+        super(world, createBoundingBox(vertices, x, y));
+
+        // Crear el cuerpo estático
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        bodyDef.position.set(x, y);
+        body = world.createBody(bodyDef);
+
+        // Crear la fixture
+        fixture = body.createFixture(shape, 0.0f);
+        fixture.setUserData(this);
+
+        // Configurar filtros de colisión
+        Filter filter = new Filter();
+        filter.categoryBits = CollisionFilters.STATIC;
+        filter.maskBits = (short) (CollisionFilters.PLAYER | CollisionFilters.ENEMY | CollisionFilters.OTHERPLAYER);
+        fixture.setFilterData(filter);
+
+        shape.dispose();
+    }
+
+    /**
+     * Rectángulo que envuelve los vértices, en coordenadas del mundo.
+     */
+    static Rectangle createBoundingBox(Vector2[] vertices, float x, float y) {
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+
+        for (Vector2 vertex : vertices) {
+            minX = Math.min(minX, vertex.x);
+            minY = Math.min(minY, vertex.y);
+            maxX = Math.max(maxX, vertex.x);
+            maxY = Math.max(maxY, vertex.y);
+        }
+
+        return new Rectangle(x + minX, y + minY, maxX - minX, maxY - minY);
+    }
+
+    @Override
+    public void beginContactWith(ActorBox2d actor, src.screens.game.GameScreen game) {
+        // Las colisiones estáticas no necesitan lógica de contacto específica
+    }
+}
@@ -51,7 +51,7 @@ public class EntityFactory {
 
             case MOUNT -> new Mount(world, new Rectangle(position.x, position.y, 2f, 2f), assetManager, id, game);
 
-            case RING -> new Rings(world, new Rectangle(position.x, position.y, 2f, 2f), assetManager, id, game);
+            case RING -> new Rings(world, new Rectangle(position.x, position.y, Rings.SIZE, Rings.SIZE), assetManager, id, game);
 
             case EGGMAN -> new Eggman(world, new Rectangle(position.x, position.y, 4f, 4f), assetManager, id, game);
 
@@ -9,6 +9,7 @@ import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
+import src.utils.animation.AtlasLookup;
 import src.utils.animation.SheetCutter;
 import src.utils.constants.CollisionFilters;
 import src.world.ActorBox2d;
@@ -69,18 +70,18 @@ public class Eggman extends Enemy
         setState(StateType.WALK);
 
         idleAnimation = new Animation<>(0.12f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/eggman/eggman_idle.png"), 3));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/eggman/eggman_idle.png"), 3));
 
         walkAnimation = new Animation<>(0.12f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/eggman/eggman_idle.png"), 3));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/eggman/eggman_idle.png"), 3));
         walkAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         damageAnimation = new Animation<>(0.2f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/eggman/eggman_molesto.png"), 2));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/eggman/eggman_molesto.png"), 2));
         damageAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         attackAnimation = new Animation<>(0.01f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/eggman/eggman_idle.png"), 3));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/eggman/eggman_idle.png"), 3));
 
 
 
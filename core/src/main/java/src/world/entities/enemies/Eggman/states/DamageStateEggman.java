@@ -32,6 +32,7 @@ public class DamageStateEggman extends StateEnemy<Eggman> {
             enemy.setState(Eggman.StateType.WALK);
             if (enemy.isDead()){
                 enemy.throwEntity(Entity.Type.ENDRING,3f,0f);
+                enemy.explode();
                 enemy.game.removeEntity(enemy.getId());
             }
         }
@@ -9,6 +9,7 @@ import src.screens.game.GameScreen;
 import src.utils.stateMachine.StateMachine;
 import src.world.ActorBox2d;
 import src.world.entities.Entity;
+import src.world.particles.ParticleFactory;
 
 // Clase abstracta Enemy que extiende de Entity, sirviendo como base para todos los tipos de enemigos en el juego.
 public abstract class Enemy extends Entity {
@@ -155,12 +156,20 @@ public abstract class Enemy extends Entity {
         return live <= 0;
     }
 
+    /**
+     * Muestra la explosión del enemigo en su posición actual (se llama al destruirlo).
+     */
+    public void explode() {
+        game.addParticle(ParticleFactory.Type.EXPLOSION, body.getPosition().x, body.getPosition().y);
+    }
+
     /**
      * Método de actualización del enemigo, llamado cada fotograma.
      * @param delta El tiempo transcurrido desde el último fotograma.
      */
     @Override
     public void act(float delta) {
+        super.act(delta); // Avanza la animación.
         actCrono += delta; // Incrementa el cronómetro de acción.
         stateMachine.update(delta); // Actualiza el estado actual de la máquina de estados.
     }
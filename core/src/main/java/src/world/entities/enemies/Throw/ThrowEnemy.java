@@ -1,7 +1,6 @@
 package src.world.entities.enemies.Throw;
 
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
@@ -10,6 +9,7 @@ import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
+import src.utils.animation.AtlasLookup;
 import src.utils.animation.SheetCutter;
 import src.utils.constants.CollisionFilters;
 import src.world.entities.enemies.Enemy;
@@ -34,7 +34,7 @@ public class ThrowEnemy extends Enemy
 
     public ThrowEnemy(World world, Rectangle shape, AssetManager assetManager, Integer id, GameScreen game) {
         super(world, shape, assetManager, id, game, Type.THROWER, 15);
-        sprite.setTexture(assetManager.get("world/entities/Enemigos/enemigo3.png", Texture.class));
+        sprite.setRegion(AtlasLookup.find(assetManager, "world/entities/Enemigos/enemigo3.png"));
         BodyDef def = new BodyDef();
         def.position.set(shape.x + shape.width / 2, shape.y + shape.height / 2);
         def.type = BodyDef.BodyType.DynamicBody;
@@ -60,18 +60,18 @@ public class ThrowEnemy extends Enemy
         attackState = new AttackStateThrower(this);
 
         idleAnimation = new Animation<>(0.1f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/enemigo3.png"), 4));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/enemigo3.png"), 4));
 
         walkAnimation = new Animation<>(0.1f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/enemigo3.png"), 4));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/enemigo3.png"), 4));
         walkAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         damageAnimation = new Animation<>(0.2f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/enemigo3.png"), 4));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/enemigo3.png"), 4));
         damageAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         attackAnimation = new Animation<>(0.01f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/enemigo3.png"), 4));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/enemigo3.png"), 4));
 
         setState(StateType.IDLE);
     }
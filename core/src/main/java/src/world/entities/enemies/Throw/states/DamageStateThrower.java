@@ -19,7 +19,10 @@ public class DamageStateThrower extends StateEnemy<ThrowEnemy> {
     public void update(Float delta) {
         if (enemy.isAnimationFinish()) {
             enemy.setState(ThrowEnemy.StateType.IDLE);
-            if (enemy.isDead()) enemy.game.removeEntity(enemy.getId());
+            if (enemy.isDead()) {
+                enemy.explode();
+                enemy.game.removeEntity(enemy.getId());
+            }
         }
     }
 
@@ -9,6 +9,7 @@ import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
+import src.utils.animation.AtlasLookup;
 import src.utils.animation.SheetCutter;
 import src.utils.constants.CollisionFilters;
 import src.world.entities.enemies.Enemy;
@@ -54,14 +55,14 @@ public class BasicEnemy extends Enemy {
         setState(StateType.IDLE);
 
         idleAnimation = new Animation<>(0.12f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/enemigo1.png"), 3));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/enemigo1.png"), 3));
 
         walkAnimation = new Animation<>(0.12f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/enemigo1.png"), 3));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/enemigo1.png"), 3));
         walkAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         damageAnimation = new Animation<>(0.1f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Enemigos/enemigo1.png"), 3));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Enemigos/enemigo1.png"), 3));
 
         setCurrentAnimation(idleAnimation);
     }
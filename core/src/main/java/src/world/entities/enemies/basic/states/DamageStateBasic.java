@@ -19,7 +19,10 @@ public class DamageStateBasic extends StateEnemy<BasicEnemy> {
     public void update(Float delta) {
         if (enemy.isAnimationFinish()) {
             enemy.setState(BasicEnemy.StateType.IDLE);
-            if (enemy.isDead()) enemy.game.removeEntity(enemy.getId());
+            if (enemy.isDead()) {
+                enemy.explode();
+                enemy.game.removeEntity(enemy.getId());
+            }
         }
     }
 
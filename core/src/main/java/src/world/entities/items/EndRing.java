@@ -9,8 +9,10 @@ import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
+import src.utils.animation.AtlasLookup;
 import src.utils.animation.SheetCutter;
 import src.utils.constants.CollisionFilters;
+import src.world.particles.ParticleFactory;
 
 public class EndRing extends Item {
     public EndRing(World world, Rectangle shape, AssetManager assetManager, Integer id, GameScreen game) {
@@ -33,9 +35,12 @@ public class EndRing extends Item {
         fixture.setFilterData(filter);
 
         Animation<TextureRegion> loopAnimation = new Animation<>(0.1f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Objetos/anillo_especial.png"), 4));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Objetos/anillo_especial.png"), 4));
         loopAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         setCurrentAnimation(loopAnimation);
+
+        // Destellos alrededor del anillo mientras exista.
+        game.getParticleSystem().attach(ParticleFactory.Type.SPARKLE, this, 0f, 0f, 0.5f, -1f);
     }
 }
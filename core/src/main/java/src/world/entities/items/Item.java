@@ -4,6 +4,7 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
+import src.utils.render.RenderQueue;
 import src.world.ActorBox2d;
 import src.world.entities.Entity;
 
@@ -13,6 +14,7 @@ public class Item extends Entity {
     public Item(World world, Rectangle shape, AssetManager assetManager, Integer id, Type type, GameScreen game) {
         super(world, shape, assetManager, id, type);
         this.game = game;
+        setRenderLayer(RenderQueue.LAYER_ITEMS);
     }
 
     @Override
@@ -10,6 +10,7 @@ import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
+import src.utils.animation.AtlasLookup;
 import src.utils.animation.SheetCutter;
 import src.utils.constants.CollisionFilters;
 
@@ -34,7 +35,7 @@ public class Mount extends Item {
         fixture.setFilterData(filter);
 
         Animation<TextureRegion> loopAnimation = new Animation<>(0.1f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Objetos/monton.png"), 1));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Objetos/monton.png"), 1));
         loopAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         setCurrentAnimation(loopAnimation);
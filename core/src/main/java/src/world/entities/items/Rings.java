@@ -1,18 +1,22 @@
 package src.world.entities.items;
 
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
-import src.utils.animation.SheetCutter;
 import src.utils.constants.CollisionFilters;
+import src.utils.render.RenderQueue;
 
+/**
+ * Anillo recogible. Solo tiene cuerpo físico: no anima ni dibuja su propio sprite, sino que en cada frame
+ * pasa su posición a `RingRenderer`, que dibuja todos los anillos visibles de una vez.
+ */
 public class Rings extends Item {
+    public static final Float SIZE = 2f; // Lado del anillo en metros.
+
     public Rings(World world, Rectangle shape, AssetManager assetManager, Integer id, GameScreen game) {
         super(world, shape, assetManager, id, Type.RING, game);
 
@@ -31,11 +35,14 @@ public class Rings extends Item {
         Filter filter = new Filter();
         filter.categoryBits = CollisionFilters.ITEM;
         fixture.setFilterData(filter);
+    }
 
-        Animation<TextureRegion> loopAnimation = new Animation<>(0.1f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Objetos/anillos.png"), 4));
-        loopAnimation.setPlayMode(Animation.PlayMode.LOOP);
-
-        setCurrentAnimation(loopAnimation);
+    /**
+     * En lugar de añadir un sprite a la lista de dibujo, pasa la posición del anillo a `RingRenderer`.
+     */
+    @Override
+    public void enqueue(RenderQueue queue) {
+        if (body == null) return;
+        game.getRingRenderer().add(body.getPosition().x, body.getPosition().y);
     }
 }
@@ -12,12 +12,16 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import src.main.Main;
 import src.screens.game.GameScreen;
 import src.utils.Box2dUtils;
+import src.utils.RailSpline;
 import src.utils.FrontRayCastCallback;
 import src.utils.SoundPicthUp;
 import src.utils.constants.CollisionFilters;
 import src.utils.constants.PlayerControl;
+import src.utils.log.Log;
+import src.utils.render.RenderQueue;
 import src.utils.sound.SingleSoundManager;
 import src.utils.sound.SoundManager;
 import src.world.ActorBox2d;
@@ -29,6 +33,7 @@ import src.world.entities.items.Item;
 import src.world.entities.items.Mount;
 import src.world.entities.items.Rings;
 import src.world.entities.player.states.*;
+import src.world.particles.ParticleFactory;
 import java.util.ArrayList;
 import java.util.Random;
 
@@ -91,6 +96,7 @@ public class Player extends PlayerCommon {
         this.color = color;
 
         setColor(this.color);
+        setRenderLayer(RenderQueue.LAYER_PLAYER);
 
         // Configurar filtros de colisión (ignora a otros jugadores)
         Filter filter = new Filter();
@@ -117,6 +123,7 @@ public class Player extends PlayerCommon {
         runState = new RunState(this);
         jumpState = new JumpState(this);
         fallState = new FallState(this);
+        railState = new RailState(this);
        /*
 
         downState = new DownState(this);
@@ -242,6 +249,9 @@ public class Player extends PlayerCommon {
 
         //coinSound.update(delta);
 
+        if (getCurrentStateType() == StateType.RAIL) return;
+        tryAttachRail();
+
         Vector2 velocity = body.getLinearVelocity();
         if (getCurrentStateType() == StateType.DASH || getCurrentStateType() == StateType.STUN) return;
         if (getCurrentStateType() == StateType.RUN || PlayerControl.isRunPressed()) return;
@@ -252,6 +262,20 @@ public class Player extends PlayerCommon {
             }
         }
     }
+
+    /**
+     * Si el jugador va lo bastante rápido por la entrada de un riel (loop o curva), pasa al estado `RAIL`
+     * y deja de depender de las colisiones para recorrerlo.
+     */
+    private void tryAttachRail() {
+        if (getCurrentStateType() != StateType.WALK && getCurrentStateType() != StateType.RUN
+            && getCurrentStateType() != StateType.FALL) return;
+        RailSpline rail = game.getRailManager().findRail(body.getPosition(), body.getLinearVelocity(), RAIL_MIN_SPEED);
+        if (rail == null) return;
+        railState.setRail(rail);
+        setCurrentState(StateType.RAIL);
+    }
+
     public void beginContactWith(ActorBox2d actor, GameScreen game) {
         if (actor instanceof Enemy enemy) {
             if((getCurrentStateType() == StateType.FALL) && (enemy instanceof Eggman)){
@@ -261,6 +285,7 @@ public class Player extends PlayerCommon {
             }
             else if (getCurrentStateType() == StateType.FALL) {
                 enemy.throwEntity(Type.RING,0f,2f);
+                enemy.explode();
                 game.removeEntity(enemy.getId());
                 setCurrentState(Player.StateType.IDLE);
                 return;
@@ -290,6 +315,7 @@ public class Player extends PlayerCommon {
 
         } else if (actor instanceof Rings coin) {
             addCoin();
+            game.addParticle(ParticleFactory.Type.SPARKLE, coin.getBody().getPosition().x, coin.getBody().getPosition().y);
             coin.despawn();
         }
         else if(actor instanceof Mount mount){
@@ -379,8 +405,8 @@ public class Player extends PlayerCommon {
      * Maneja la muerte del jugador.
      */
     private void die() {
-        System.out.println("¡El jugador ha muerto!");
-        game.main.setScreen(new src.screens.uiScreens.MenuScreen(game.main));
+        Log.info("Player", "¡El jugador ha muerto!");
+        game.main.changeScreen(Main.Screens.MENU);
     }
 
     // Llama a este método cuando el jugador recolecta una moneda
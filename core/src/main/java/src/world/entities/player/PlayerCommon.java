@@ -8,8 +8,10 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.physics.box2d.*;
+import src.utils.animation.AtlasLookup;
 import src.utils.animation.SheetCutter;
 import src.utils.constants.PlayerControl;
+import src.utils.render.RenderQueue;
 import src.utils.stateMachine.StateMachine;
 import src.utils.stateMachine.StateMachine;
 import src.world.entities.Entity;
@@ -25,13 +27,6 @@ public abstract class PlayerCommon extends Entity {
     public float brakeForce = DEFAULT_BRAKE_FORCE;
     public int dashDamage = DEFAULT_DASH_DAMAGE;
 
-    // Variables para evitar que se pegue en curvas
-    public float wallUnstickForce = 15f;
-    public float wallDetectionDistance = 0.5f;
-    public boolean isStuckOnWall = false;
-    public float wallStuckTimer = 0f;
-    public static final float WALL_STUCK_THRESHOLD = 0.5f; // Tiempo máximo que puede estar "pegado"
-
     public static final int DEFAULT_DASH_DAMAGE = 1;
     public static final float DEFAULT_STUNT_TIME = 1f;
     public static final float WALK_SPEED = 16f;
@@ -48,6 +43,8 @@ public abstract class PlayerCommon extends Entity {
     public static final float DASH_IMPULSE = 15f;
     public static final float ABSORB_FORCE = 12f;
     public static final float DEFAULT_BRAKE_FORCE = 220f;
+    public static final float RAIL_MIN_SPEED = 6f; // Rapidez mínima para engancharse a un riel (loops y curvas).
+    public static final float RAIL_DETACH_SPEED = 3f; // Por debajo de esta rapidez el jugador se suelta del riel.
 
     public AssetManager assetManager;
 
@@ -60,6 +57,7 @@ public abstract class PlayerCommon extends Entity {
         RUN,
         DASH,
         STUN,
+        RAIL,
     }
     protected StateType currentStateType;
     private final StateMachine stateMachine;
@@ -70,6 +68,7 @@ public abstract class PlayerCommon extends Entity {
 //    protected DownState downState;
 //    protected DashState dashState;
     protected RunState runState;
+    protected RailState railState;
 //    protected StunState stunState;
 
     public enum AnimationType {
@@ -100,6 +99,7 @@ public abstract class PlayerCommon extends Entity {
 
     private final Sprite secondSprite;
     private Animation<TextureRegion> secondCurrentAnimation;
+    private TextureRegion secondDrawnFrame; // Último frame aplicado a secondSprite.
 
     protected float bodyWidth, bodyHeight;
 
@@ -153,29 +153,29 @@ public abstract class PlayerCommon extends Entity {
 
     private void initAnimations(AssetManager assetManager){
         walkAnimation = new Animation<>(0.11f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Sonic/Sonic_correr1.png"), 6));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Sonic/Sonic_correr1.png"), 6));
         walkAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         idleAnimation = new Animation<>(0.5f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Sonic/Sonic_idle.png"), 4));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Sonic/Sonic_idle.png"), 4));
         idleAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         // Animaciones de salto y caída usando yoshi.png (1 frame)
         jumpAnimation = new Animation<>(0.1f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Sonic/Sonic_bolita.png"), 1));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Sonic/Sonic_bolita.png"), 1));
         jumpAnimation.setPlayMode(Animation.PlayMode.NORMAL);
 
         fallAnimation = new Animation<>(0.1f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Sonic/Sonic_cayendo.png"), 2));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Sonic/Sonic_cayendo.png"), 2));
         fallAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
     fallSimpleAnimation = fallAnimation;
         runAnimation = new Animation<>(0.04f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Sonic/Sonic_correr2.png"), 4));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Sonic/Sonic_correr2.png"), 4));
         runAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         maxSpeedAnimation = new Animation<>(0.03f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Sonic/Sonic_correr3.png"), 4));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Sonic/Sonic_correr3.png"), 4));
         maxSpeedAnimation.setPlayMode(Animation.PlayMode.LOOP);
 //
 //        changeRunAnimation = new Animation<>(1f,
@@ -231,6 +231,7 @@ public abstract class PlayerCommon extends Entity {
             case FALL -> stateMachine.setState(fallState);
 //            case DOWN -> stateMachine.setState(downState);
             case RUN -> stateMachine.setState(runState);
+            case RAIL -> stateMachine.setState(railState);
 //            case DASH -> stateMachine.setState(dashState);
 //            case STUN -> stateMachine.setState(stunState);
         }
@@ -273,17 +274,30 @@ public abstract class PlayerCommon extends Entity {
     @Override
     public void draw(Batch batch, float parentAlpha) {
         super.draw(batch, parentAlpha);
-        if (secondCurrentAnimation != null) secondSprite.setRegion(secondCurrentAnimation.getKeyFrame(getAnimateTime(), false));
-        else secondSprite.setTexture(null);
-        if (secondSprite.getTexture() == null) return;
-        secondSprite.setFlip(isFlipX(), false);
-        secondSprite.setPosition(getX(), getY());
-        secondSprite.setOriginCenter();
-        secondSprite.draw(batch);
+        if (secondCurrentAnimation != null) secondSprite.draw(batch);
+    }
+
+    @Override
+    public void enqueue(RenderQueue queue) {
+        super.enqueue(queue);
+        if (secondCurrentAnimation != null) queue.add(secondSprite, getRenderLayer(), getDrawOrder());
+    }
+
+    @Override
+    protected void syncSprite() {
+        super.syncSprite();
+        if (secondCurrentAnimation == null) return;
+        TextureRegion frame = secondCurrentAnimation.getKeyFrame(getAnimateTime(), false);
+        if (frame != secondDrawnFrame) {
+            secondSprite.setRegion(frame);
+            secondDrawnFrame = frame;
+        }
+        updateSprite(secondSprite, isFlipX(), getX(), getY());
     }
 
     @Override
     public void act(float delta) {
+        super.act(delta);
         if (paused) return;
         stateMachine.update(delta);
         float vx = body.getLinearVelocity().x;
@@ -0,0 +1,109 @@
+package src.world.entities.player.states;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import src.utils.RailSpline;
+import src.utils.constants.PlayerControl;
+import src.world.entities.player.Player;
+
+/**
+ * Estado en el que el jugador recorre un riel (loops y curvas). Mientras dura, el cuerpo pasa a ser
+ * cinemático: no choca con las colisiones estáticas y su posición se calcula de forma analítica sobre el
+ * riel, avanzando `rapidez * delta` metros por frame. El cuerpo se mueve solo con su velocidad, la justa para
+ * llegar al punto del riel en el siguiente paso de la simulación. La gravedad solo actúa a lo largo del riel (frena al
+ * subir y acelera al bajar). El jugador sale del riel al llegar a un extremo, al saltar o si se queda sin
+ * velocidad suficiente.
+ */
+public class RailState extends StatePlayer {
+    private RailSpline rail;
+    private Float distance; // Posición actual sobre el riel (longitud de arco en metros).
+    private Float railSpeed; // Rapidez con signo: positiva avanzando hacia el final del riel.
+    private final Vector2 point, tangent;
+
+    public RailState(Player player) {
+        super(player);
+        point = new Vector2();
+        tangent = new Vector2();
+        distance = 0f;
+        railSpeed = 0f;
+    }
+
+    /**
+     * Indica el riel a recorrer. Debe llamarse antes de cambiar al estado `RAIL`.
+     */
+    public void setRail(RailSpline rail) {
+        this.rail = rail;
+    }
+
+    @Override
+    public void start() {
+        Body body = player.getBody();
+        Vector2 position = body.getPosition();
+        distance = Math.max(0, rail.nearest(position.x, position.y, Float.MAX_VALUE));
+        railSpeed = rail.tangentAt(distance, tangent).dot(body.getLinearVelocity());
+        body.setType(BodyDef.BodyType.KinematicBody);
+        // Se coloca una sola vez sobre el riel; a partir de aquí solo se mueve con su velocidad.
+        body.setTransform(rail.valueAt(distance, point), body.getAngle());
+        body.setLinearVelocity(0, 0);
+        if (player.getCurrentAnimationType() != Player.AnimationType.MAXSPEED) player.setAnimation(Player.AnimationType.RUN);
+    }
+
+    @Override
+    public void update(Float delta) {
+        if (player.getCurrentStateType() != Player.StateType.RAIL) return;
+        Body body = player.getBody();
+
+        rail.tangentAt(distance, tangent);
+        railSpeed += player.game.getWorld().getGravity().dot(tangent) * delta;
+
+        // Solo al pulsar: si el salto sigue apretado al engancharse (desde un salto o una caída), no se suelta.
+        if (Gdx.input.isKeyJustPressed(PlayerControl.JUMP)) {
+            // Salto perpendicular al riel (el suelo queda a la derecha del sentido en que se dibujó).
+            leave(body);
+            body.applyLinearImpulse(-tangent.y * Player.JUMP_IMPULSE, tangent.x * Player.JUMP_IMPULSE,
+                body.getWorldCenter().x, body.getWorldCenter().y, true);
+            player.setCurrentState(Player.StateType.FALL);
+            return;
+        }
+        if (Math.abs(railSpeed) < Player.RAIL_DETACH_SPEED) {
+            leave(body);
+            player.setCurrentState(Player.StateType.FALL);
+            return;
+        }
+
+        distance += railSpeed * delta;
+        if (distance <= 0 || distance >= rail.getLength()) {
+            distance = Math.max(0, Math.min(distance, rail.getLength()));
+            leave(body);
+            player.setCurrentState(Player.StateType.RUN);
+            return;
+        }
+
+        rail.valueAt(distance, point);
+        rail.tangentAt(distance, tangent);
+        // La velocidad que lleva el cuerpo exactamente al punto del riel en el siguiente `World.step(delta)`.
+        // Moverlo también con `setTransform` lo dejaría un frame por delante del riel.
+        if (delta > 0) body.setLinearVelocity((point.x - body.getPosition().x) / delta, (point.y - body.getPosition().y) / delta);
+        if (player.isFlipX() != (railSpeed * tangent.x < 0)) player.setFlipX(railSpeed * tangent.x < 0);
+    }
+
+    /**
+     * Devuelve el cuerpo a la simulación normal, conservando la velocidad que llevaba sobre el riel.
+     */
+    private void leave(Body body) {
+        rail.tangentAt(distance, tangent);
+        body.setType(BodyDef.BodyType.DynamicBody);
+        body.setLinearVelocity(tangent.x * railSpeed, tangent.y * railSpeed);
+        body.setAwake(true);
+    }
+
+    @Override
+    public void end() {
+        // Por si se sale del estado desde fuera (daño, muerte): el cuerpo nunca debe quedar cinemático.
+        Body body = player.getBody();
+        if (body != null && body.getType() != BodyDef.BodyType.DynamicBody) leave(body);
+        rail = null;
+    }
+}
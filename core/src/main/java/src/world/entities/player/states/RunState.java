@@ -4,7 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import src.utils.constants.PlayerControl;
 import src.world.entities.player.Player;
-//import src.world.particles.ParticleFactory;
+import src.world.particles.ParticleFactory;
 
 public class RunState extends CanBasicMoveState{
     private Boolean isLeft = false;
@@ -54,7 +54,7 @@ public class RunState extends CanBasicMoveState{
                 float X = player.getBody().getPosition().x;
                 if (player.getCurrentAnimationType() == Player.AnimationType.CHANGERUN) X += (!isLeft ? 0.2f : -1.2f);
                 else X += (isLeft ? 0.2f : -1.2f);
-                //player.game.addParticle(ParticleFactory.Type.CLOUD, new Vector2(X, player.getBody().getPosition().y-0.5f));
+                player.game.addParticle(ParticleFactory.Type.CLOUD, X, player.getBody().getPosition().y-0.5f);
                 timeParticle = 0f;
             }
         }
@@ -68,11 +68,11 @@ public class RunState extends CanBasicMoveState{
 
         if (Gdx.input.isKeyPressed(PlayerControl.LEFT) && !isLeft){
             player.setAnimation(Player.AnimationType.CHANGERUN);
-            //timeActivateParticle = 0.3f;
+            timeActivateParticle = 0.3f;
             isLeft = true;
         }else if (Gdx.input.isKeyPressed(PlayerControl.RIGHT) && isLeft){
             player.setAnimation(Player.AnimationType.CHANGERUN);
-            //timeActivateParticle = 0.3f;
+            timeActivateParticle = 0.3f;
             isLeft = false;
         }
     }
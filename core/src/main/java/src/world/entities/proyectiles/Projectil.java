@@ -5,6 +5,7 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
 import src.utils.Box2dUtils;
+import src.utils.render.RenderQueue;
 import src.world.ActorBox2d;
 import src.world.entities.Entity;
 import src.world.entities.enemies.Enemy;
@@ -21,6 +22,7 @@ public class Projectil extends Entity {
         this.game = game;
         despawn = false;
         this.damage = damage;
+        setRenderLayer(RenderQueue.LAYER_PROJECTILES);
     }
 
     public Integer getDamage() {
@@ -11,6 +11,7 @@ import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import src.screens.game.GameScreen;
+import src.utils.animation.AtlasLookup;
 import src.utils.animation.SheetCutter;
 import src.utils.constants.CollisionFilters;
 import src.world.ActorBox2d;
@@ -43,7 +44,7 @@ public class TrashProyectil extends Projectil {
         fixture.setFilterData(filter);
 
         Animation<TextureRegion> bombAnimation = new Animation<>(0.6f,
-            SheetCutter.cutHorizontal(assetManager.get("world/entities/Objetos/basura2.png"), 1));
+            SheetCutter.cutHorizontal(AtlasLookup.find(assetManager, "world/entities/Objetos/basura2.png"), 1));
         setCurrentAnimation(bombAnimation);
 
 
@@ -51,6 +52,7 @@ public class TrashProyectil extends Projectil {
 
     @Override
     public void act(float delta) {
+        super.act(delta);
         if (isAnimationFinish()) {
             despawn();
             isExploding = true;
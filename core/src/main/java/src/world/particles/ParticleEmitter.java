@@ -0,0 +1,70 @@
+package src.world.particles;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import src.world.ActorBox2d;
+import src.world.ActorBox2dSprite;
+
+import static src.utils.constants.Constants.PIXELS_IN_METER;
+
+/**
+ * Un `ParticleEmitter` sigue a una entidad y emite partículas cada cierto intervalo. Los emisores los reserva
+ * y reutiliza `ParticleSystem` (ver `ParticleSystem.attach`); no se crean directamente.
+ * <p>
+ * El desplazamiento X se refleja cuando el sprite de la entidad está volteado, para que p. ej. el polvo
+ * salga siempre por detrás. El emisor se apaga solo al acabar su duración o cuando la entidad pierde su cuerpo.
+ */
+public class ParticleEmitter {
+    ParticleFactory.Type type;
+    ActorBox2d target;
+    float offsetX, offsetY; // Desplazamiento respecto al cuerpo, en metros.
+    float interval; // Segundos entre emisiones.
+    float remaining; // Segundos de vida restantes (negativo = sin límite).
+    float timer;
+    boolean active;
+
+    void set(ParticleFactory.Type type, ActorBox2d target, float offsetX, float offsetY, float interval, float duration) {
+        this.type = type;
+        this.target = target;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.interval = interval;
+        this.remaining = duration;
+        this.timer = 0f;
+        this.active = true;
+    }
+
+    /**
+     * Avanza el emisor y emite en el pool las partículas que tocan.
+     */
+    void update(float delta, ParticlePool pool) {
+        Body body = target.getBody();
+        if (body == null) {
+            stop();
+            return;
+        }
+        timer += delta;
+        while (timer >= interval) {
+            timer -= interval;
+            boolean flip = target instanceof ActorBox2dSprite sprite && sprite.isFlipX();
+            float x = (body.getPosition().x + (flip ? -offsetX : offsetX)) * PIXELS_IN_METER;
+            float y = (body.getPosition().y + offsetY) * PIXELS_IN_METER;
+            ParticleFactory.burst(type, pool, x, y);
+        }
+        if (remaining >= 0) {
+            remaining -= delta;
+            if (remaining <= 0) stop();
+        }
+    }
+
+    /**
+     * Apaga el emisor; `ParticleSystem` lo reutiliza en el siguiente `attach`.
+     */
+    public void stop() {
+        active = false;
+        target = null;
+    }
+
+    public Boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,79 @@
+package src.world.particles;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import src.utils.animation.AtlasLookup;
+import src.utils.animation.SheetCutter;
+
+/**
+ * La clase `ParticleFactory` define los tipos de partícula del juego: cómo se ve cada uno (su `ParticlePool`)
+ * y cuántas partículas crea una emisión y con qué velocidades.
+ */
+public class ParticleFactory {
+    public enum Type {
+        CLOUD, // Polvo al correr o frenar.
+        SPARKLE, // Destellos al recoger un anillo.
+        EXPLOSION, // Explosión al destruir un enemigo.
+    }
+
+    /**
+     * Crea el pool de un tipo de partícula.
+     * @param type El tipo de partícula.
+     * @param assetManager El AssetManager del juego (la explosión usa "explosion.png").
+     * @param dot Un punto blanco y redondo, compartido por el polvo y los destellos.
+     */
+    public static ParticlePool createPool(Type type, AssetManager assetManager, TextureRegion dot) {
+        ParticlePool.Settings settings = new ParticlePool.Settings();
+        return switch (type) {
+            case CLOUD -> {
+                settings.capacity = 512;
+                settings.gravity = -20f; // El polvo sube un poco.
+                settings.drag = 3f;
+                settings.startSize = 6f;
+                settings.endSize = 14f;
+                settings.color.set(0.85f, 0.8f, 0.7f, 0.8f);
+                yield new ParticlePool(new TextureRegion[]{dot}, settings);
+            }
+            case SPARKLE -> {
+                settings.capacity = 1024;
+                settings.gravity = 120f;
+                settings.drag = 2f;
+                settings.startSize = 5f;
+                settings.endSize = 1f;
+                settings.color.set(1f, 0.9f, 0.3f, 1f);
+                yield new ParticlePool(new TextureRegion[]{dot}, settings);
+            }
+            case EXPLOSION -> {
+                settings.capacity = 128;
+                settings.startSize = 40f;
+                settings.endSize = 48f;
+                settings.fadeOut = false;
+                settings.animate = true;
+                TextureRegion sheet = AtlasLookup.find(assetManager, "world/entities/Objetos/explosion.png");
+                yield new ParticlePool(SheetCutter.cutHorizontal(sheet, 5), settings);
+            }
+        };
+    }
+
+    /**
+     * Crea las partículas de una emisión de ese tipo.
+     * @param type El tipo de partícula.
+     * @param pool El pool del tipo.
+     * @param x Posición X en píxeles.
+     * @param y Posición Y en píxeles.
+     */
+    public static void burst(Type type, ParticlePool pool, float x, float y) {
+        switch (type) {
+            case CLOUD -> pool.spawn(x, y, MathUtils.random(-15f, 15f), MathUtils.random(5f, 20f), MathUtils.random(0.3f, 0.5f));
+            case SPARKLE -> {
+                for (int i = 0; i < 10; i++) {
+                    float angle = MathUtils.random(MathUtils.PI2);
+                    float speed = MathUtils.random(40f, 110f);
+                    pool.spawn(x, y, MathUtils.cos(angle) * speed, MathUtils.sin(angle) * speed + 40f, MathUtils.random(0.3f, 0.6f));
+                }
+            }
+            case EXPLOSION -> pool.spawn(x, y, 0f, 0f, 0.4f);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package src.world.particles;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * La clase `ParticlePool` guarda y simula todas las partículas de un mismo tipo.
+ * <p>
+ * Los datos se guardan como estructura de arrays (un `float[]` por atributo) de capacidad fija, reservados
+ * una sola vez: crear, mover o eliminar partículas no crea objetos. Las partículas vivas ocupan siempre los
+ * índices `[0, count)`; al morir una, la última ocupa su lugar. Para dibujar, se escriben los vértices de
+ * todas en un único array y se envían al `Batch` con una sola llamada.
+ */
+public class ParticlePool {
+    private static final int VERTEX_SIZE = 5; // x, y, color, u, v (formato de SpriteBatch).
+    private static final int QUAD_SIZE = 4 * VERTEX_SIZE;
+
+    /**
+     * Parámetros visuales y físicos de un tipo de partícula. Las distancias están en píxeles.
+     */
+    public static class Settings {
+        public Integer capacity = 256; // Número máximo de partículas vivas; las que no caben se descartan.
+        public Float gravity = 0f; // Aceleración vertical hacia abajo (píxeles/s²).
+        public Float drag = 0f; // Fracción de la velocidad que se pierde por segundo.
+        public Float startSize = 8f; // Tamaño al nacer.
+        public Float endSize = 8f; // Tamaño al morir.
+        public Color color = new Color(Color.WHITE); // Tinte de la textura.
+        public Boolean fadeOut = true; // Si es true, la transparencia baja hasta 0 al final de la vida.
+        public Boolean animate = false; // Si es true, los frames se reparten a lo largo de la vida.
+    }
+
+    private final Settings settings;
+    private final TextureRegion[] frames;
+    private final Texture texture;
+    private final int capacity;
+    private int count;
+
+    private final float[] x, y; // Posición (píxeles).
+    private final float[] vx, vy; // Velocidad (píxeles/s).
+    private final float[] age, life; // Tiempo vivido y duración total (segundos).
+    private final float[] vertices; // Vértices de todas las partículas, reutilizados en cada frame.
+
+    /**
+     * Constructor de `ParticlePool`.
+     * @param frames Frames de la partícula; todos deben estar en la misma textura (p. ej. un atlas).
+     * @param settings Parámetros del tipo de partícula.
+     */
+    public ParticlePool(TextureRegion[] frames, Settings settings) {
+        this.frames = frames;
+        this.settings = settings;
+        texture = frames[0].getTexture();
+        capacity = settings.capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        age = new float[capacity];
+        life = new float[capacity];
+        vertices = new float[capacity * QUAD_SIZE];
+    }
+
+    /**
+     * Crea una partícula.
+     * @param px Posición X en píxeles.
+     * @param py Posición Y en píxeles.
+     * @param velocityX Velocidad X en píxeles/s.
+     * @param velocityY Velocidad Y en píxeles/s.
+     * @param duration Vida en segundos.
+     * @return false si el pool estaba lleno y la partícula se descartó.
+     */
+    public boolean spawn(float px, float py, float velocityX, float velocityY, float duration) {
+        if (count == capacity) return false;
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = velocityX;
+        vy[i] = velocityY;
+        age[i] = 0f;
+        life[i] = duration;
+        return true;
+    }
+
+    /**
+     * Avanza la simulación y elimina las partículas que terminaron su vida.
+     * @param delta Tiempo transcurrido en segundos.
+     */
+    public void update(float delta) {
+        float gravity = settings.gravity * delta;
+        float damping = Math.max(0f, 1f - settings.drag * delta);
+        int i = 0;
+        while (i < count) {
+            age[i] += delta;
+            if (age[i] >= life[i]) {
+                kill(i); // La última partícula pasa a este índice; se procesa en la siguiente vuelta.
+                continue;
+            }
+            vy[i] -= gravity;
+            vx[i] *= damping;
+            vy[i] *= damping;
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            i++;
+        }
+    }
+
+    /**
+     * Dibuja todas las partículas con una sola llamada al `Batch`. Debe llamarse entre `begin` y `end`.
+     */
+    public void draw(Batch batch) {
+        if (count == 0) return;
+        Color tint = settings.color;
+        float startSize = settings.startSize;
+        float sizeRange = settings.endSize - startSize;
+        boolean fadeOut = settings.fadeOut;
+        boolean animate = settings.animate;
+        int lastFrame = frames.length - 1;
+
+        int v = 0;
+        for (int i = 0; i < count; i++) {
+            float progress = age[i] / life[i];
+            float half = (startSize + sizeRange * progress) / 2;
+            TextureRegion frame = animate ? frames[Math.min((int) (progress * frames.length), lastFrame)] : frames[0];
+            float color = Color.toFloatBits(tint.r, tint.g, tint.b, fadeOut ? tint.a * (1f - progress) : tint.a);
+            float left = x[i] - half, right = x[i] + half;
+            float bottom = y[i] - half, top = y[i] + half;
+            float u = frame.getU(), v1 = frame.getV(), u2 = frame.getU2(), v2 = frame.getV2();
+
+            vertices[v++] = left;
+            vertices[v++] = bottom;
+            vertices[v++] = color;
+            vertices[v++] = u;
+            vertices[v++] = v2;
+
+            vertices[v++] = left;
+            vertices[v++] = top;
+            vertices[v++] = color;
+            vertices[v++] = u;
+            vertices[v++] = v1;
+
+            vertices[v++] = right;
+            vertices[v++] = top;
+            vertices[v++] = color;
+            vertices[v++] = u2;
+            vertices[v++] = v1;
+
+            vertices[v++] = right;
+            vertices[v++] = bottom;
+            vertices[v++] = color;
+            vertices[v++] = u2;
+            vertices[v++] = v2;
+        }
+        batch.draw(texture, vertices, 0, v);
+    }
+
+    /**
+     * Elimina todas las partículas.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public Texture getTexture() {
+        return texture;
+    }
+
+    private void kill(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        age[i] = age[last];
+        life[i] = life[last];
+    }
+}
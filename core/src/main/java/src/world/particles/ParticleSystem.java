@@ -0,0 +1,126 @@
+package src.world.particles;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import src.world.ActorBox2d;
+
+import static src.utils.constants.Constants.PIXELS_IN_METER;
+
+/**
+ * La clase `ParticleSystem` reúne los pools de todos los tipos de partícula (`ParticleFactory.Type`) y un
+ * número fijo de emisores que pueden seguir a entidades.
+ * <p>
+ * Todo se reserva al crearlo: emitir, simular y dibujar partículas no crea objetos. Los pools se dibujan en el
+ * orden del enum, de modo que los tipos que comparten textura quedan seguidos y el `Batch` no se vacía entre
+ * ellos: una llamada de dibujo por textura.
+ */
+public class ParticleSystem implements Disposable {
+    private static final int MAX_EMITTERS = 32;
+    private static final int DOT_SIZE = 8; // Tamaño en píxeles de la textura del punto.
+
+    private final ParticlePool[] pools; // Indexado por `Type.ordinal()`.
+    private final ParticleEmitter[] emitters;
+    private final Texture dotTexture; // Punto blanco generado en memoria (no hay imagen para el polvo).
+
+    /**
+     * Constructor de `ParticleSystem`. Los recursos de las partículas deben estar ya cargados.
+     * @param assetManager El AssetManager del juego.
+     */
+    public ParticleSystem(AssetManager assetManager) {
+        Pixmap pixmap = new Pixmap(DOT_SIZE, DOT_SIZE, Pixmap.Format.RGBA8888);
+        pixmap.setColor(1f, 1f, 1f, 1f);
+        pixmap.fillCircle(DOT_SIZE / 2, DOT_SIZE / 2, DOT_SIZE / 2 - 1);
+        dotTexture = new Texture(pixmap);
+        pixmap.dispose();
+        TextureRegion dot = new TextureRegion(dotTexture);
+
+        ParticleFactory.Type[] types = ParticleFactory.Type.values();
+        pools = new ParticlePool[types.length];
+        for (ParticleFactory.Type type : types) pools[type.ordinal()] = ParticleFactory.createPool(type, assetManager, dot);
+
+        emitters = new ParticleEmitter[MAX_EMITTERS];
+        for (int i = 0; i < MAX_EMITTERS; i++) emitters[i] = new ParticleEmitter();
+    }
+
+    /**
+     * Emite partículas de un tipo en una posición del mundo.
+     * @param type El tipo de partícula.
+     * @param x Posición X en metros.
+     * @param y Posición Y en metros.
+     */
+    public void emit(ParticleFactory.Type type, float x, float y) {
+        ParticleFactory.burst(type, pools[type.ordinal()], x * PIXELS_IN_METER, y * PIXELS_IN_METER);
+    }
+
+    /**
+     * Une un emisor a una entidad.
+     * @param type El tipo de partícula.
+     * @param target La entidad a seguir.
+     * @param offsetX Desplazamiento X respecto al cuerpo (metros); se refleja si el sprite está volteado.
+     * @param offsetY Desplazamiento Y respecto al cuerpo (metros).
+     * @param interval Segundos entre emisiones.
+     * @param duration Segundos que dura el emisor, o un valor negativo para que dure mientras viva la entidad.
+     * @return El emisor, o null si no queda ninguno libre.
+     */
+    public ParticleEmitter attach(ParticleFactory.Type type, ActorBox2d target, float offsetX, float offsetY, float interval, float duration) {
+        for (ParticleEmitter emitter : emitters) {
+            if (emitter.active) continue;
+            emitter.set(type, target, offsetX, offsetY, interval, duration);
+            return emitter;
+        }
+        return null;
+    }
+
+    /**
+     * Apaga los emisores que siguen a una entidad (p. ej. al eliminarla).
+     */
+    public void detach(ActorBox2d target) {
+        for (ParticleEmitter emitter : emitters) {
+            if (emitter.active && emitter.target == target) emitter.stop();
+        }
+    }
+
+    /**
+     * Avanza los emisores y la simulación de todos los pools.
+     * @param delta Tiempo transcurrido en segundos.
+     */
+    public void update(float delta) {
+        for (ParticleEmitter emitter : emitters) {
+            if (emitter.active) emitter.update(delta, pools[emitter.type.ordinal()]);
+        }
+        for (ParticlePool pool : pools) pool.update(delta);
+    }
+
+    /**
+     * Dibuja todas las partículas. Debe llamarse entre `begin` y `end` con la proyección de la cámara del mundo.
+     */
+    public void draw(Batch batch) {
+        for (ParticlePool pool : pools) pool.draw(batch);
+    }
+
+    /**
+     * Elimina todas las partículas y apaga todos los emisores.
+     */
+    public void clear() {
+        for (ParticleEmitter emitter : emitters) emitter.stop();
+        for (ParticlePool pool : pools) pool.clear();
+    }
+
+    /**
+     * Número total de partículas vivas (útil para depuración).
+     */
+    public Integer getParticleCount() {
+        int total = 0;
+        for (ParticlePool pool : pools) total += pool.getCount();
+        return total;
+    }
+
+    @Override
+    public void dispose() {
+        dotTexture.dispose();
+    }
+}
@@ -3,18 +3,50 @@ package src.lwjgl3;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import src.main.Main;
+import src.utils.startup.StartupProfiler;
 
-/** Launches the desktop (LWJGL3) application. */
+import java.lang.management.ManagementFactory;
+
+/**
+ * Launches the desktop (LWJGL3) application.
+ * <p>
+ * Startup is measured by {@link StartupProfiler} from JVM start to the first menu frame; the report goes to the
+ * log, and to a CSV file when -Dstartup.profile=&lt;path&gt; is set.
+ * <p>
+ * Class loading is most of a cold start, so the game can be launched with an AppCDS archive of the classes
+ * it loads on the way to the menu. A training run (the trainCds Gradle task) creates it:
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=sonicBarcoBasurero.jsa -Dstartup.training=true -jar sonicBarcoBasurero.jar
+ * </pre>
+ * With -Dstartup.training=true the game exits by itself once the menu is shown. Later launches use the archive
+ * (the runCds Gradle task, or the kiosk launch script):
+ * <pre>
+ * java -XX:SharedArchiveFile=sonicBarcoBasurero.jsa -jar sonicBarcoBasurero.jar
+ * </pre>
+ * The archive only works with the same JDK and the same jar; if they change the JVM ignores it and starts as
+ * usual, and it must be trained again.
+ */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
+        StartupProfiler.launched();
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
+        if (Boolean.getBoolean("startup.training")) checkTrainingArchive();
         createApplication();
     }
 
     private static Lwjgl3Application createApplication() {
+        StartupProfiler.begin(StartupProfiler.APPLICATION);
         return new Lwjgl3Application(new Main(), getDefaultConfiguration());
     }
 
+    /** A training run without -XX:ArchiveClassesAtExit only opens and closes the game. */
+    private static void checkTrainingArchive() {
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-XX:ArchiveClassesAtExit=")) return;
+        }
+        System.err.println("startup.training is set but the JVM was not started with -XX:ArchiveClassesAtExit=<file>: no CDS archive will be written.");
+    }
+
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
         configuration.setTitle("Sonic Barco Basurero");